@@ -0,0 +1,17 @@
+package com.example.auth.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Spring Cache 설정
+ * 캐시 구현은 spring.cache.type으로 선택 (기본 caffeine, 인스턴스 간 공유가 필요하면 redis)
+ * 캐시 조회가 트랜잭션보다 먼저 실행되도록 트랜잭션 advisor보다 높은 우선순위를 지정 (캐시 hit 시 DB 커넥션을 잡지 않음)
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String USER_PROFILE_CACHE = "userProfile";
+}
@@ -1,12 +1,16 @@
 package com.example.auth.config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.backoff.ExponentialBackOff;
 
+@Slf4j
 @Configuration
 public class RedisConfig {
 
@@ -26,4 +30,21 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * pub/sub 구독 (near cache 무효화)
+     * 구독 연결은 RedisGuard를 거치지 않으므로 연결이 끊기면 지수 backoff(최대 30초)로 재구독하며,
+     * 구독이 없는 동안 near cache는 사용하지 않음 (LoginSessionNearCache)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        ExponentialBackOff recoveryBackOff = new ExponentialBackOff(1000, 2.0);
+        recoveryBackOff.setMaxInterval(30_000);
+        container.setRecoveryBackoff(recoveryBackOff);
+        container.setErrorHandler(e -> log.warn("Redis listener error: {}", e.toString()));
+        return container;
+    }
 }
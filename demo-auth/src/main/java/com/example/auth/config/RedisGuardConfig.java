@@ -0,0 +1,49 @@
+package com.example.auth.config;
+
+import com.example.auth.service.RedisGuard;
+import com.example.auth.service.RedisGuardProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Redis 호출 보호 설정
+ * 로그인/세션 조회 등 요청 경로와 주기 동기화/관리 작업은 회로와 스레드 풀을 따로 사용하여
+ * 백그라운드 작업의 느린 호출이 로그인 경로의 회로를 열거나 스레드를 점유하지 않도록 합니다.
+ */
+@Configuration
+public class RedisGuardConfig {
+
+    public static final String BACKGROUND_REDIS_GUARD = "backgroundRedisGuard";
+
+    @Bean
+    @ConfigurationProperties("auth.redis-guard")
+    public RedisGuardProperties redisGuardProperties() {
+        return new RedisGuardProperties();
+    }
+
+    /**
+     * 백그라운드 작업은 처리량보다 격리가 중요하므로 스레드 수를 줄이고 호출 대기 시간을 늘림
+     */
+    @Bean
+    @ConfigurationProperties("auth.redis-guard.background")
+    public RedisGuardProperties backgroundRedisGuardProperties() {
+        RedisGuardProperties properties = new RedisGuardProperties();
+        properties.setCallTimeoutMs(2000);
+        properties.setPoolSize(2);
+        properties.setQueueCapacity(8);
+        return properties;
+    }
+
+    @Bean
+    @Primary
+    public RedisGuard redisGuard() {
+        return new RedisGuard("request", redisGuardProperties());
+    }
+
+    @Bean(BACKGROUND_REDIS_GUARD)
+    public RedisGuard backgroundRedisGuard() {
+        return new RedisGuard("background", backgroundRedisGuardProperties());
+    }
+}
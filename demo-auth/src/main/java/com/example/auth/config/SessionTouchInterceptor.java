@@ -0,0 +1,31 @@
+package com.example.auth.config;
+
+import com.example.auth.service.SessionExpiryToucher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 인증된 요청마다 로그인 세션 sliding expiry 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionTouchInterceptor implements HandlerInterceptor {
+
+    private final SessionExpiryToucher sessionExpiryToucher;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            sessionExpiryToucher.touch(authentication.getName());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.auth.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final SessionTouchInterceptor sessionTouchInterceptor;
+
+    @Value("${base.url}")
+    private String baseUrl;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sessionTouchInterceptor)
+                .excludePathPatterns("/" + baseUrl + "/sign/**");
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.auth.controller;
+
+import com.example.auth.dto.SessionPageResponse;
+import com.example.auth.dto.SessionRevocationResponse;
+import com.example.auth.service.LoginSessionService;
+import com.example.auth.service.SessionAdminService;
+import com.example.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자 - 로그인 세션 관리
+ */
+@Slf4j
+@RestController
+@RequestMapping("${base.url}/adm/sessions")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdmSessionController {
+
+    private final SessionAdminService sessionAdminService;
+    private final LoginSessionService loginSessionService;
+
+    /**
+     * 활성 세션 목록 (SCAN cursor 페이지)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<SessionPageResponse>> getSessions(
+            @RequestParam(defaultValue = "0") String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(ApiResponse.success(sessionAdminService.listSessions(cursor, size)));
+    }
+
+    /**
+     * 특정 사용자 세션 폐기
+     */
+    @DeleteMapping("/{email}")
+    public ResponseEntity<ApiResponse<Void>> revokeSession(@PathVariable String email) {
+        loginSessionService.deleteLoginSession(email);
+        return ResponseEntity.ok(ApiResponse.success("세션이 폐기되었습니다", null));
+    }
+
+    /**
+     * 전체 세션 일괄 폐기 시작
+     */
+    @PostMapping("/revoke-all")
+    public ResponseEntity<ApiResponse<SessionRevocationResponse>> revokeAll() {
+        log.warn("Revoke-all sessions requested");
+        return ResponseEntity.accepted()
+                .body(ApiResponse.success("세션 일괄 폐기를 시작했습니다", sessionAdminService.startRevokeAll()));
+    }
+
+    /**
+     * 일괄 폐기 진행 상황
+     */
+    @GetMapping("/revoke-all")
+    public ResponseEntity<ApiResponse<SessionRevocationResponse>> getRevokeAllStatus() {
+        return ResponseEntity.ok(ApiResponse.success(sessionAdminService.getRevocationStatus()));
+    }
+
+    /**
+     * 일괄 폐기 중단
+     */
+    @DeleteMapping("/revoke-all")
+    public ResponseEntity<ApiResponse<SessionRevocationResponse>> cancelRevokeAll() {
+        return ResponseEntity.ok(ApiResponse.success("세션 일괄 폐기를 중단했습니다", sessionAdminService.cancelRevokeAll()));
+    }
+}
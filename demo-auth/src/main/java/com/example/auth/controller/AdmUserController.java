@@ -0,0 +1,58 @@
+package com.example.auth.controller;
+
+import com.example.auth.dto.BulkProvisionResponse;
+import com.example.auth.dto.UserDirectoryItem;
+import com.example.auth.service.UserDirectoryService;
+import com.example.auth.service.UserProvisioningService;
+import com.example.common.dto.ApiResponse;
+import com.example.common.dto.CursorPageResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 관리자 - 사용자 관리
+ */
+@Slf4j
+@RestController
+@RequestMapping("${base.url}/adm/users")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdmUserController {
+
+    private final UserProvisioningService userProvisioningService;
+    private final UserDirectoryService userDirectoryService;
+
+    /**
+     * 사용자 목록 (최신 가입 순 keyset 페이지, 이메일/이름 접두어 검색은 각각 이메일/이름 순)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserDirectoryItem>>> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(userDirectoryService.getUsers(cursor, email, name, size)));
+    }
+
+    /**
+     * 사용자 대량 등록 (CSV: email,password,name,birthDate 헤더 / NDJSON: 한 줄에 회원가입 요청 1건)
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<BulkProvisionResponse>> bulkProvision(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.accepted()
+                .body(ApiResponse.success("사용자 대량 등록을 시작했습니다", userProvisioningService.submit(file)));
+    }
+
+    /**
+     * 대량 등록 진행 상황
+     */
+    @GetMapping("/bulk/{jobId}")
+    public ResponseEntity<ApiResponse<BulkProvisionResponse>> getBulkProvision(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success(userProvisioningService.getJob(jobId)));
+    }
+}
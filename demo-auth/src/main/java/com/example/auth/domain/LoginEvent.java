@@ -0,0 +1,49 @@
+package com.example.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 로그인 이력 (보안 분석용, append-only)
+ * 저장은 LoginEventRecorder가 JDBC batch로 처리하며, 이 엔티티는 테이블 정의/조회용입니다.
+ */
+@Entity
+@Table(name = "tbl_login_event", indexes = {
+        @Index(name = "idx_login_event_email", columnList = "email, occurred_at"),
+        @Index(name = "idx_login_event_occurred_at", columnList = "occurred_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long eventId;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LoginEventType eventType;
+
+    @Column(length = 45)
+    private String clientIp;
+
+    @Column(length = 255)
+    private String userAgent;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
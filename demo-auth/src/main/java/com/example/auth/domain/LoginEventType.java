@@ -0,0 +1,14 @@
+package com.example.auth.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum LoginEventType {
+    SUCCESS("로그인 성공"),
+    FAILURE("비밀번호 불일치 또는 없는 계정"),
+    THROTTLED("실패 횟수 초과로 차단");
+
+    private final String description;
+}
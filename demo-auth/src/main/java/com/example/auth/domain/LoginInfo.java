@@ -1,11 +1,16 @@
 package com.example.auth.domain;
 
 import com.example.common.entity.BaseEntity;
+import com.example.common.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,7 +20,11 @@ import java.util.Collections;
 import java.util.UUID;
 
 @Entity
+@EntityListeners({UserProfileCacheListener.class, SecondLevelCacheListener.class})
 @Table(name = "tbl_login_info")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "loginInfo")
+@NaturalIdCache(region = "loginInfoNaturalId")
 @Getter
 @Builder
 @NoArgsConstructor
@@ -23,10 +32,11 @@ import java.util.UUID;
 public class LoginInfo extends BaseEntity implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "login_id", nullable = false, updatable = false, columnDefinition = "BINARY(16)")
     private UUID loginId;
 
+    @NaturalId
     @Column(nullable = false, unique = true, length = 100)
     private String email;
 
@@ -56,6 +66,10 @@ public class LoginInfo extends BaseEntity implements UserDetails {
     @OneToOne(mappedBy = "loginInfo", fetch = FetchType.LAZY)
     private UserInfo userInfo;
 
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     // UserDetails 구현 메서드
 
     @Override
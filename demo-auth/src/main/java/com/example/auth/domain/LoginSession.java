@@ -0,0 +1,96 @@
+package com.example.auth.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis에 저장되는 로그인 세션 (login:session:{email} 해시)
+ *
+ * 모든 값은 짧은 일반 문자열로 저장하여(JSON 직렬화 없음) Redis가 listpack 인코딩을 쓰도록 합니다.
+ * refresh token 원문 대신 SHA-256 digest만 보관하고, loginTime은 epoch milliseconds 입니다.
+ */
+public record LoginSession(
+        String email,
+        String userId,
+        UserRole userRole,
+        String refreshTokenHash,
+        Long loginTime
+) {
+
+    public static final String EMAIL = "email";
+    public static final String USER_ID = "userId";
+    public static final String USER_ROLE = "userRole";
+    public static final String REFRESH_TOKEN_HASH = "refreshTokenHash";
+    public static final String LOGIN_TIME = "loginTime";
+
+    public static LoginSession create(String email, String userId, UserRole userRole, String refreshToken) {
+        return new LoginSession(email, userId, userRole, hashToken(refreshToken), System.currentTimeMillis());
+    }
+
+    public static LoginSession from(Map<String, String> hash) {
+        String userRole = hash.get(USER_ROLE);
+        return new LoginSession(
+                hash.get(EMAIL),
+                hash.get(USER_ID),
+                userRole != null ? UserRole.valueOf(userRole) : null,
+                hash.get(REFRESH_TOKEN_HASH),
+                parseEpochMillis(hash.get(LOGIN_TIME))
+        );
+    }
+
+    public Map<String, String> toHash() {
+        Map<String, String> hash = new LinkedHashMap<>();
+        hash.put(EMAIL, email);
+        hash.put(USER_ID, userId);
+        hash.put(USER_ROLE, userRole.name());
+        hash.put(REFRESH_TOKEN_HASH, refreshTokenHash);
+        hash.put(LOGIN_TIME, String.valueOf(loginTime));
+        return hash;
+    }
+
+    /**
+     * 토큰 재발급에 필요한 정보가 모두 있는지 여부
+     * (이전 형식으로 저장된 세션은 false)
+     */
+    public boolean canReissueTokens() {
+        return userId != null && userRole != null && refreshTokenHash != null && loginTime != null;
+    }
+
+    /**
+     * 토큰이 이 세션의 로그인 이전에 발급되었는지 여부
+     * 로그인/재구성 시 토큰을 먼저 만들고 세션을 저장하므로, JWT iat(초 단위)가 로그인 시각보다 1초 이내로 앞선 경우는 같은 로그인으로 봄
+     * (이전 형식 세션은 loginTime이 없으므로 false)
+     */
+    public boolean isIssuedBeforeLogin(long issuedAtMillis) {
+        return loginTime != null && issuedAtMillis / 1000 + 1 < loginTime / 1000;
+    }
+
+    public boolean matchesRefreshToken(String refreshToken) {
+        return refreshTokenHash != null && refreshTokenHash.equals(hashToken(refreshToken));
+    }
+
+    public static String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Long parseEpochMillis(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            // 이전 형식(LocalDateTime 문자열)
+            return null;
+        }
+    }
+}
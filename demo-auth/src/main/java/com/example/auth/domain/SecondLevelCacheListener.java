@@ -0,0 +1,47 @@
+package com.example.auth.domain;
+
+import com.example.auth.service.SecondLevelCacheInvalidator;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * 사용자/로그인 정보 변경 시 다른 인스턴스의 2차 캐시 / userProfile 캐시 무효화 (커밋된 경우에만 전파)
+ * (JPQL 벌크 UPDATE는 엔티티 이벤트가 발생하지 않아 전파되지 않으므로 LoginInfo/UserInfo는 엔티티 변경으로 수정)
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheListener {
+
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof LoginInfo loginInfo) {
+            evictAfterCommit(LoginInfo.class, loginInfo.getLoginId(), loginInfo.getEmail());
+        } else if (entity instanceof UserInfo userInfo) {
+            // 커밋 이후에는 세션이 닫혀 loginInfo를 읽을 수 없으므로 변경 시점에 email 확인
+            String email = userInfo.getLoginInfo() != null ? userInfo.getLoginInfo().getEmail() : null;
+            evictAfterCommit(UserInfo.class, userInfo.getUserId(), email);
+        }
+    }
+
+    private void evictAfterCommit(Class<?> entityClass, UUID id, String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    secondLevelCacheInvalidator.evict(entityClass, id, email);
+                }
+            });
+        } else {
+            secondLevelCacheInvalidator.evict(entityClass, id, email);
+        }
+    }
+}
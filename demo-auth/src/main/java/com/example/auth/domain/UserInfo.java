@@ -1,17 +1,26 @@
 package com.example.auth.domain;
 
 import com.example.common.entity.BaseEntity;
+import com.example.common.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tbl_users")
+@EntityListeners({UserProfileCacheListener.class, SecondLevelCacheListener.class})
+@Table(name = "tbl_users", indexes = {
+        @Index(name = "idx_users_user_name", columnList = "user_name"),
+        @Index(name = "idx_users_directory", columnList = "del_yn, created_at, user_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "userInfo")
 @Getter
 @Builder
 @NoArgsConstructor
@@ -19,7 +28,7 @@ import java.util.UUID;
 public class UserInfo extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "user_id", nullable = false, updatable = false, columnDefinition = "BINARY(16)")
     private UUID userId;
 
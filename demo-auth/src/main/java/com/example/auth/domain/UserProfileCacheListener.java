@@ -0,0 +1,63 @@
+package com.example.auth.domain;
+
+import com.example.auth.config.CacheConfig;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자/로그인 정보 변경 시 userProfile 캐시 무효화 (로컬, 다른 인스턴스는 SecondLevelCacheInvalidator 메시지로 제거)
+ * 트랜잭션 안에서는 커밋 이후에 제거하여, 커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록 함
+ * (JPQL 벌크 UPDATE는 엔티티 이벤트가 발생하지 않으므로 프로필 필드를 바꾸는 경우 직접 evict 필요)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileCacheListener {
+
+    private final CacheManager cacheManager;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        String email = resolveEmail(entity);
+        if (email == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(email);
+                }
+            });
+        } else {
+            evict(email);
+        }
+    }
+
+    private void evict(String email) {
+        Cache cache = cacheManager.getCache(CacheConfig.USER_PROFILE_CACHE);
+        if (cache != null) {
+            cache.evict(email);
+            log.debug("User profile cache evicted: {}", email);
+        }
+    }
+
+    private static String resolveEmail(Object entity) {
+        if (entity instanceof LoginInfo loginInfo) {
+            return loginInfo.getEmail();
+        }
+        if (entity instanceof UserInfo userInfo && userInfo.getLoginInfo() != null) {
+            return userInfo.getLoginInfo().getEmail();
+        }
+        return null;
+    }
+}
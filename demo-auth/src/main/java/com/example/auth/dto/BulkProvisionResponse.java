@@ -0,0 +1,29 @@
+package com.example.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProvisionResponse {
+
+    private String jobId;
+    private String status;
+    private String fileName;
+    private long totalRows;
+    private long created;
+    private long duplicates;
+    private long invalid;
+    private long failed;
+    private LocalDateTime queuedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<String> errors;
+}
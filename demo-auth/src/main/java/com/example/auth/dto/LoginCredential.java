@@ -0,0 +1,25 @@
+package com.example.auth.dto;
+
+import com.example.auth.domain.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * 로그인/토큰 갱신용 조회 결과 (UserInfo + LoginInfo 단일 쿼리 projection)
+ * 엔티티를 로드하지 않으므로 LoginInfo.userInfo(mappedBy OneToOne) 추가 조회가 발생하지 않음
+ */
+public record LoginCredential(
+        UUID userId,
+        String email,
+        String password,
+        UserRole userRole
+) {
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority(userRole.getKey()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 세션 목록 (SCAN cursor 기반)
+ * nextCursor가 "0"이면 마지막 페이지
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionPageResponse {
+
+    private String nextCursor;
+    private List<SessionSummaryResponse> sessions;
+
+    public boolean isLast() {
+        return "0".equals(nextCursor);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.auth.dto;
+
+import com.example.auth.domain.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionSummaryResponse {
+
+    private String email;
+    private String userId;
+    private UserRole userRole;
+    private Long loginTime;
+    private Long ttlSeconds;
+}
@@ -19,6 +19,7 @@ public class SignupRequest {
 
     @NotBlank(message = "이메일은 필수입니다")
     @Email(message = "이메일 형식이 올바르지 않습니다")
+    @Size(max = 100, message = "이메일은 100자 이하이어야 합니다")
     private String email;
 
     @NotBlank(message = "비밀번호는 필수입니다")
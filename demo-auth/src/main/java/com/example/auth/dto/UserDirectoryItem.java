@@ -0,0 +1,20 @@
+package com.example.auth.dto;
+
+import com.example.auth.domain.UserRole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 관리자 사용자 목록 항목 (JPQL 생성자 projection, 비밀번호 해시 제외)
+ */
+public record UserDirectoryItem(
+        UUID userId,
+        String userName,
+        String email,
+        UserRole userRole,
+        LocalDate birthDate,
+        LocalDateTime createdAt
+) {
+}
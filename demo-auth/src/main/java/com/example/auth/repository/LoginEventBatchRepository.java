@@ -0,0 +1,47 @@
+package com.example.auth.repository;
+
+import com.example.auth.domain.LoginEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 로그인 이력 JDBC batch insert (rewriteBatchedStatements=true 설정 시 multi-row INSERT)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginEventBatchRepository {
+
+    private static final String INSERT_LOGIN_EVENT = """
+            INSERT INTO tbl_login_event (email, user_id, event_type, client_ip, user_agent, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<LoginEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_LOGIN_EVENT, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getEmail());
+            ps.setBytes(2, toBytes(event.getUserId()));
+            ps.setString(3, event.getEventType().name());
+            ps.setString(4, event.getClientIp());
+            ps.setString(5, event.getUserAgent());
+            ps.setTimestamp(6, Timestamp.valueOf(event.getOccurredAt()));
+        });
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.auth.repository;
+
+import com.example.auth.domain.LoginInfo;
+
+import java.util.Optional;
+
+/**
+ * email(natural id) 기준 조회/변경, 2차 캐시(natural id → id → 엔티티)를 사용하므로 캐시 hit 시 SQL이 실행되지 않음
+ */
+public interface LoginInfoNaturalIdRepository {
+
+    Optional<LoginInfo> findByEmail(String email);
+
+    /**
+     * 비밀번호 변경 (엔티티 변경으로 처리하여 2차 캐시 항목만 갱신)
+     *
+     * @return 대상 사용자가 없으면 false
+     */
+    boolean updatePassword(String email, String password);
+}
@@ -0,0 +1,44 @@
+package com.example.auth.repository;
+
+import com.example.auth.domain.LoginInfo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * LoginInfoRepository 구현 fragment (파생 쿼리 대신 Hibernate natural id 조회)
+ */
+public class LoginInfoNaturalIdRepositoryImpl implements LoginInfoNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Session 조회(unwrap)에는 트랜잭션이 필요하므로 호출 측 트랜잭션이 없으면 읽기 전용으로 시작
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LoginInfo> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(LoginInfo.class)
+                .loadOptional(email);
+    }
+
+    /**
+     * JPQL 벌크 UPDATE는 region 전체를 비우기만 하므로, 비우기 전에 DB에서 읽은 조회가 이전 값을 다시 캐시할 수 있음
+     * 엔티티 변경은 READ_WRITE soft lock으로 변경 전에 읽은 값의 캐시 저장을 막음
+     */
+    @Override
+    @Transactional
+    public boolean updatePassword(String email, String password) {
+        return findByEmail(email)
+                .map(loginInfo -> {
+                    loginInfo.changePassword(password);
+                    return true;
+                })
+                .orElse(false);
+    }
+}
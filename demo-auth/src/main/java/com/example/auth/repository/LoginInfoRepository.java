@@ -2,15 +2,23 @@ package com.example.auth.repository;
 
 import com.example.auth.domain.LoginInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface LoginInfoRepository extends JpaRepository<LoginInfo, UUID> {
-
-    Optional<LoginInfo> findByEmail(String email);
+public interface LoginInfoRepository extends JpaRepository<LoginInfo, UUID>, LoginInfoNaturalIdRepository {
 
     boolean existsByEmail(String email);
+
+    /**
+     * 주어진 이메일 중 이미 가입된 이메일 목록 (대량 등록 시 chunk 단위 중복 확인)
+     */
+    @Query("SELECT l.email FROM LoginInfo l WHERE l.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
@@ -1,9 +1,16 @@
 package com.example.auth.repository;
 
 import com.example.auth.domain.UserInfo;
+import com.example.auth.dto.LoginCredential;
+import com.example.auth.dto.UserDirectoryItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +19,70 @@ public interface UserInfoRepository extends JpaRepository<UserInfo, UUID> {
 
     Optional<UserInfo> findByLoginInfo_Email(String email);
 
+    /**
+     * 로그인/토큰 갱신에 필요한 인증 정보(비밀번호 해시, 권한, userId)를 한 번의 조회로 가져옴
+     */
+    @Query("SELECT new com.example.auth.dto.LoginCredential(u.userId, l.email, l.password, l.userRole) " +
+            "FROM UserInfo u JOIN u.loginInfo l " +
+            "WHERE l.email = :email")
+    Optional<LoginCredential> findCredentialByEmail(@Param("email") String email);
+
+    /**
+     * 관리자 사용자 목록 (삭제되지 않은 사용자, created_at, user_id 내림차순 keyset 페이지)
+     * 기존 UUIDv4 id가 섞여 있어 user_id만으로는 가입 순서가 아니므로 created_at을 먼저 정렬하고 user_id로 동률을 구분
+     * (del_yn, created_at, user_id) 인덱스 순서대로 읽어 filesort 없이 페이지 크기만큼만 읽음
+     *
+     * @param cursorCreatedAt 이전 페이지 마지막 항목의 createdAt (첫 페이지는 null)
+     * @param cursorUserId    이전 페이지 마지막 항목의 userId (첫 페이지는 null)
+     */
+    @Query("SELECT new com.example.auth.dto.UserDirectoryItem(u.userId, u.userName, l.email, l.userRole, u.birthDate, u.createdAt) " +
+            "FROM UserInfo u JOIN u.loginInfo l " +
+            "WHERE u.delYn = com.example.common.enums.YesNo.NO " +
+            "AND (:cursorCreatedAt IS NULL OR u.createdAt < :cursorCreatedAt " +
+            "     OR (u.createdAt = :cursorCreatedAt AND u.userId < :cursorUserId)) " +
+            "ORDER BY u.createdAt DESC, u.userId DESC")
+    List<UserDirectoryItem> findDirectoryPage(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorUserId") UUID cursorUserId,
+                                              Pageable pageable);
+
+    /**
+     * 이메일 접두어 검색 (email 오름차순 keyset 페이지)
+     * uk_login_info_email의 (접두어, cursor) range를 순서대로 읽고 사용자는 uk_users_login_id로 1건씩 join
+     * 이름 접두어를 함께 주면 이메일 range 안에서만 거름
+     *
+     * @param emailPrefix '!'로 이스케이프된 접두어 + '%'
+     * @param namePrefix  '!'로 이스케이프된 접두어 + '%' (없으면 null)
+     * @param cursorEmail 이전 페이지 마지막 항목의 email (첫 페이지는 null)
+     */
+    @Query("SELECT new com.example.auth.dto.UserDirectoryItem(u.userId, u.userName, l.email, l.userRole, u.birthDate, u.createdAt) " +
+            "FROM UserInfo u JOIN u.loginInfo l " +
+            "WHERE l.email LIKE :emailPrefix ESCAPE '!' " +
+            "AND (:cursorEmail IS NULL OR l.email > :cursorEmail) " +
+            "AND u.delYn = com.example.common.enums.YesNo.NO " +
+            "AND (:namePrefix IS NULL OR u.userName LIKE :namePrefix ESCAPE '!') " +
+            "ORDER BY l.email")
+    List<UserDirectoryItem> findDirectoryPageByEmailPrefix(@Param("emailPrefix") String emailPrefix,
+                                                           @Param("namePrefix") String namePrefix,
+                                                           @Param("cursorEmail") String cursorEmail,
+                                                           Pageable pageable);
+
+    /**
+     * 이름 접두어 검색 (user_name, user_id 오름차순 keyset 페이지)
+     * idx_users_user_name(secondary index에 PK user_id 포함)의 (접두어, cursor) range를 순서대로 읽음
+     *
+     * @param namePrefix     '!'로 이스케이프된 접두어 + '%'
+     * @param cursorUserName 이전 페이지 마지막 항목의 userName (첫 페이지는 null)
+     * @param cursorUserId   이전 페이지 마지막 항목의 userId (첫 페이지는 null)
+     */
+    @Query("SELECT new com.example.auth.dto.UserDirectoryItem(u.userId, u.userName, l.email, l.userRole, u.birthDate, u.createdAt) " +
+            "FROM UserInfo u JOIN u.loginInfo l " +
+            "WHERE u.userName LIKE :namePrefix ESCAPE '!' " +
+            "AND (:cursorUserName IS NULL OR u.userName > :cursorUserName " +
+            "     OR (u.userName = :cursorUserName AND u.userId > :cursorUserId)) " +
+            "AND u.delYn = com.example.common.enums.YesNo.NO " +
+            "ORDER BY u.userName, u.userId")
+    List<UserDirectoryItem> findDirectoryPageByNamePrefix(@Param("namePrefix") String namePrefix,
+                                                          @Param("cursorUserName") String cursorUserName,
+                                                          @Param("cursorUserId") UUID cursorUserId,
+                                                          Pageable pageable);
 }
@@ -0,0 +1,92 @@
+package com.example.auth.repository;
+
+import com.example.auth.domain.UserRole;
+import com.example.common.enums.YesNo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대량 사용자 등록 전용 JDBC batch insert
+ * JPA cascade 저장(행마다 INSERT 2회)을 거치지 않고 tbl_login_info / tbl_users 를 각각 한 번의 batch로 저장합니다.
+ * MySQL 드라이버의 rewriteBatchedStatements=true 설정 시 multi-row INSERT로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserProvisioningRepository {
+
+    private static final String INSERT_LOGIN_INFO = """
+            INSERT INTO tbl_login_info
+                (login_id, email, password, user_role,
+                 account_non_expired, account_non_locked, credentials_non_expired, enabled,
+                 del_yn, created_at, updated_at, created_by, updated_by)
+            VALUES (?, ?, ?, ?, true, true, true, true, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_USER = """
+            INSERT INTO tbl_users
+                (user_id, user_name, birth_date, login_id,
+                 del_yn, created_at, updated_at, created_by, updated_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<NewUser> users, String createdBy) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String notDeleted = YesNo.NO.getValue();
+
+        jdbcTemplate.batchUpdate(INSERT_LOGIN_INFO, users, users.size(), (ps, user) -> {
+            ps.setBytes(1, toBytes(user.loginId()));
+            ps.setString(2, user.email());
+            ps.setString(3, user.encodedPassword());
+            ps.setString(4, user.userRole().name());
+            ps.setString(5, notDeleted);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            ps.setString(8, createdBy);
+            ps.setString(9, createdBy);
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, user) -> {
+            ps.setBytes(1, toBytes(user.userId()));
+            ps.setString(2, user.userName());
+            ps.setDate(3, user.birthDate() != null ? Date.valueOf(user.birthDate()) : null);
+            ps.setBytes(4, toBytes(user.loginId()));
+            ps.setString(5, notDeleted);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            ps.setString(8, createdBy);
+            ps.setString(9, createdBy);
+        });
+    }
+
+    /**
+     * Hibernate의 BINARY(16) UUID 저장 형식과 동일 (상위 64bit, 하위 64bit 순서)
+     */
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public record NewUser(
+            UUID userId,
+            UUID loginId,
+            String email,
+            String encodedPassword,
+            UserRole userRole,
+            String userName,
+            LocalDate birthDate
+    ) {
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.auth.service;
 
+import com.example.auth.config.CacheConfig;
+import com.example.auth.domain.LoginEventType;
 import com.example.auth.domain.LoginInfo;
+import com.example.auth.domain.LoginSession;
 import com.example.auth.domain.UserInfo;
 import com.example.auth.domain.UserRole;
+import com.example.auth.dto.LoginCredential;
 import com.example.auth.dto.LoginRequest;
 import com.example.auth.dto.SignupRequest;
 import com.example.auth.dto.TokenResponse;
@@ -11,9 +15,12 @@ import com.example.auth.repository.LoginInfoRepository;
 import com.example.auth.repository.UserInfoRepository;
 import com.example.common.exception.BusinessException;
 import com.example.common.exception.ErrorCode;
+import com.example.common.util.RequestUtil;
+import com.example.db.querycount.QueryBudget;
 import com.example.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -29,8 +36,11 @@ public class AuthService {
     private final UserInfoRepository userInfoRepository;
     private final LoginInfoRepository loginInfoRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
     private final JwtTokenProvider jwtTokenProvider;
     private final LoginSessionService loginSessionService;
+    private final LoginThrottleService loginThrottleService;
+    private final LoginEventRecorder loginEventRecorder;
 
     @Transactional
     public void signup(SignupRequest request) {
@@ -40,7 +50,7 @@ public class AuthService {
 
         LoginInfo loginInfo = LoginInfo.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashExecutor.encode(request.getPassword()))
                 .userRole(UserRole.USER)
                 .build();
 
@@ -54,31 +64,50 @@ public class AuthService {
         log.info("User signed up successfully: {}", request.getEmail());
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 로그인
+     * 트랜잭션을 걸지 않아 BCrypt 검증 동안 DB 커넥션을 점유하지 않음 (조회는 repository 트랜잭션에서 1회)
+     * 쿼리: 인증 정보 조회 1회 + 해시 업그레이드 시 UPDATE 1회 (로그인 이력은 별도 스레드에서 기록)
+     */
+    @QueryBudget(2)
     public TokenResponse login(LoginRequest request) {
-        LoginInfo loginInfo = loginInfoRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
+        // 실패 횟수 초과 시 비밀번호 검증(BCrypt) 전에 거절
+        String clientIp = RequestUtil.getClientIp();
+        try {
+            loginThrottleService.checkAllowed(request.getEmail(), clientIp);
+        } catch (BusinessException e) {
+            loginEventRecorder.record(request.getEmail(), null, LoginEventType.THROTTLED);
+            throw e;
+        }
+
+        LoginCredential credential = userInfoRepository.findCredentialByEmail(request.getEmail()).orElse(null);
 
-        if (!passwordEncoder.matches(request.getPassword(), loginInfo.getPassword())) {
+        if (credential == null || !passwordHashExecutor.matches(request.getPassword(), credential.password())) {
+            loginThrottleService.recordFailure(request.getEmail(), clientIp);
+            loginEventRecorder.record(request.getEmail(), credential != null ? credential.userId() : null, LoginEventType.FAILURE);
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
+        loginThrottleService.recordSuccess(request.getEmail());
+        loginEventRecorder.record(credential.email(), credential.userId(), LoginEventType.SUCCESS);
 
-        // UserInfo를 로드하여 userId 가져오기
-        UserInfo userInfo = userInfoRepository.findByLoginInfo_Email(request.getEmail())
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        // 이전 형식/낮은 strength로 저장된 해시는 로그인 성공 시 재해시
+        if (passwordEncoder.upgradeEncoding(credential.password())) {
+            upgradePasswordHash(credential.email(), request.getPassword());
+        }
 
         String accessToken = jwtTokenProvider.createAccessToken(
-                loginInfo.getEmail(),
-                userInfo.getUserId().toString(),
-                Collections.singletonList(new SimpleGrantedAuthority(loginInfo.getUserRole().getKey()))
+                credential.email(),
+                credential.userId().toString(),
+                credential.getAuthorities()
         );
 
-        String refreshToken = jwtTokenProvider.createRefreshToken(loginInfo.getEmail());
+        String refreshToken = jwtTokenProvider.createRefreshToken(credential.email());
 
         // Redis에 로그인 세션 저장
         loginSessionService.saveLoginSession(
-                loginInfo.getEmail(),
-                accessToken,
+                credential.email(),
+                credential.userId().toString(),
+                credential.userRole(),
                 refreshToken
         );
 
@@ -86,32 +115,138 @@ public class AuthService {
         return TokenResponse.of(accessToken, refreshToken);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 토큰 갱신
+     * Redis 세션의 userId/권한으로 토큰을 재발급하고 refresh token을 원자적으로 교체합니다.
+     * 세션이 없을 때(만료, Redis 초기화 등)만 DB를 조회하여 세션을 다시 만들며,
+     * 재사용 감지로 폐기된 토큰 / 현재 세션 이전 로그인에서 발급된 토큰으로는 세션을 다시 만들지 않습니다.
+     */
     public TokenResponse refreshToken(String refreshToken) {
         if (!jwtTokenProvider.validateToken(refreshToken)) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
 
         String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-        LoginInfo loginInfo = loginInfoRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        LoginSession session = loginSessionService.loadLoginSession(email);
 
-        // UserInfo를 로드하여 userId 가져오기
-        UserInfo userInfo = userInfoRepository.findByLoginInfo_Email(email)
+        if (session != null && session.canReissueTokens()) {
+            if (session.matchesRefreshToken(refreshToken)) {
+                TokenResponse rotated = rotateFromSession(session, refreshToken);
+                if (rotated != null) {
+                    return rotated;
+                }
+            } else if (session.isIssuedBeforeLogin(jwtTokenProvider.getIssuedAtFromToken(refreshToken).getTime())) {
+                // 이전 로그인에서 발급된 토큰은 새 로그인으로 무효화됨
+                log.warn("Refresh token from a previous login rejected: {}", email);
+                throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            } else {
+                // 현재 세션에서 이미 교체된 토큰이 다시 사용됨
+                revokeOnReuse(email);
+            }
+        }
+
+        // 폐기된 세션의 토큰은 세션이 없어도 재구성하지 않음
+        if (isRevoked(refreshToken, email)) {
+            log.warn("Refresh token of a revoked session rejected: {}", email);
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+
+        // 세션이 없거나(만료, Redis 초기화 등) 이전 형식인 경우 DB에서 다시 구성
+        LoginCredential credential = userInfoRepository.findCredentialByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
 
         String newAccessToken = jwtTokenProvider.createAccessToken(
-                loginInfo.getEmail(),
-                userInfo.getUserId().toString(),
-                Collections.singletonList(new SimpleGrantedAuthority(loginInfo.getUserRole().getKey()))
+                credential.email(),
+                credential.userId().toString(),
+                credential.getAuthorities()
         );
 
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(loginInfo.getEmail());
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(credential.email());
+
+        loginSessionService.saveLoginSession(
+                credential.email(),
+                credential.userId().toString(),
+                credential.userRole(),
+                newRefreshToken
+        );
 
         log.info("Token refreshed successfully: {}", email);
         return TokenResponse.of(newAccessToken, newRefreshToken);
     }
 
+    /**
+     * 세션에 저장된 userId/권한으로 토큰을 재발급하고 refresh token을 교체
+     *
+     * @return 세션이 그 사이 삭제된 경우 null
+     */
+    private TokenResponse rotateFromSession(LoginSession session, String refreshToken) {
+        String email = session.email();
+        String newAccessToken = jwtTokenProvider.createAccessToken(
+                email,
+                session.userId(),
+                Collections.singletonList(new SimpleGrantedAuthority(session.userRole().getKey()))
+        );
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(email);
+
+        LoginSessionService.RotationResult result =
+                loginSessionService.rotateRefreshToken(email, refreshToken, newRefreshToken);
+        if (result == LoginSessionService.RotationResult.REUSED) {
+            // 동시에 같은 토큰으로 갱신 요청이 들어와 먼저 교체된 경우
+            revokeOnReuse(email);
+        }
+        if (result == LoginSessionService.RotationResult.MISSING) {
+            return null;
+        }
+
+        log.info("Token refreshed from session: {}", email);
+        return TokenResponse.of(newAccessToken, newRefreshToken);
+    }
+
+    /**
+     * refresh token이 세션 폐기 시각 이전(같은 초 포함)에 발급되었는지 여부
+     */
+    private boolean isRevoked(String refreshToken, String email) {
+        Long revokedAt = loginSessionService.getRevokedAt(email);
+        if (revokedAt == null) {
+            return false;
+        }
+        long issuedAtSeconds = jwtTokenProvider.getIssuedAtFromToken(refreshToken).getTime() / 1000;
+        return issuedAtSeconds <= revokedAt / 1000;
+    }
+
+    /**
+     * 이미 교체된 refresh token이 다시 사용된 경우 탈취로 간주하고 세션을 폐기
+     * 폐기 시각이 기록되어 같은 토큰을 다시 보내도 DB 경로로 세션을 만들 수 없음
+     */
+    private void revokeOnReuse(String email) {
+        log.warn("Refresh token reuse detected, revoking session: {}", email);
+        loginSessionService.revokeSession(email);
+        throw new BusinessException(ErrorCode.INVALID_TOKEN);
+    }
+
+    /**
+     * 비밀번호 해시 업그레이드 (백그라운드)
+     * 해시 실행기가 포화 상태이면 건너뛰고 다음 로그인 때 다시 시도
+     */
+    private void upgradePasswordHash(String email, String rawPassword) {
+        boolean accepted = passwordHashExecutor.trySubmit(() -> {
+            try {
+                loginInfoRepository.updatePassword(email, passwordEncoder.encode(rawPassword));
+                log.info("Password hash upgraded for user: {}", email);
+            } catch (Exception e) {
+                log.warn("Password hash upgrade failed for user: {}", email, e);
+            }
+        });
+
+        if (!accepted) {
+            log.debug("Password hash upgrade skipped (executor saturated): {}", email);
+        }
+    }
+
+    /**
+     * 현재 사용자 정보 (userProfile 캐시, 사용자/로그인 정보 변경 시 UserProfileCacheListener가 무효화)
+     */
+    @Cacheable(cacheNames = CacheConfig.USER_PROFILE_CACHE, key = "#email")
     @Transactional(readOnly = true)
     public UserInfoResponse getCurrentUser(String email) {
         UserInfo userInfo = userInfoRepository.findByLoginInfo_Email(email)
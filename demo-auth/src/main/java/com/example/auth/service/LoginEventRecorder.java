@@ -0,0 +1,187 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.LoginEvent;
+import com.example.auth.domain.LoginEventType;
+import com.example.auth.repository.LoginEventBatchRepository;
+import com.example.common.util.RequestUtil;
+import com.example.db.workload.Workload;
+import com.example.db.workload.WorkloadContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 이력 비동기 기록
+ *
+ * 로그인 요청 스레드는 크기가 제한된 큐에 이벤트를 넣기만 하고(offer, 대기 없음),
+ * 전용 writer 스레드가 큐를 비우며 batch-size 단위 multi-row INSERT로 저장합니다.
+ * 큐가 가득 차면 로그인을 지연시키지 않고 이벤트를 버리며 dropped 카운터를 증가시킵니다.
+ * batch INSERT가 실패하면 한 건씩 다시 저장해 문제가 된 이벤트만 failed로 셉니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginEventRecorder {
+
+    private static final int EMAIL_MAX_LENGTH = 100;
+    private static final int CLIENT_IP_MAX_LENGTH = 45;
+    private static final int USER_AGENT_MAX_LENGTH = 255;
+    private static final long DROP_REPORT_INTERVAL_MILLIS = 10_000;
+
+    private final LoginEventBatchRepository loginEventBatchRepository;
+
+    @Value("${auth.login-event.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${auth.login-event.batch-size:500}")
+    private int batchSize;
+
+    @Value("${auth.login-event.flush-interval-ms:1000}")
+    private long flushIntervalMillis;
+
+    private BlockingQueue<LoginEvent> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private long lastReportedDropped;
+    private long lastReportedAt;
+
+    @PostConstruct
+    public void start() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = true;
+        this.writer = new CustomizableThreadFactory("login-event-writer-").newThread(this::drainLoop);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 종료 시 큐에 남은 이벤트를 모두 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 진행 중인 INSERT가 끊기지 않도록 interrupt 대신 poll 대기가 끝나기를 기다림
+        running = false;
+        writer.join(flushIntervalMillis + TimeUnit.SECONDS.toMillis(10));
+        flushRemaining();
+    }
+
+    public void record(String email, UUID userId, LoginEventType eventType) {
+        LoginEvent event = LoginEvent.builder()
+                .email(truncate(email, EMAIL_MAX_LENGTH))
+                .userId(userId)
+                .eventType(eventType)
+                .clientIp(truncate(RequestUtil.getClientIp(), CLIENT_IP_MAX_LENGTH))
+                .userAgent(truncate(RequestUtil.getUserAgent(), USER_AGENT_MAX_LENGTH))
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        if (!queue.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<LoginEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // 첫 이벤트는 flush-interval 동안 대기, 이후 쌓인 만큼 한 번에 가져옴
+                LoginEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                    batch.clear();
+                }
+                reportDropped();
+            } catch (InterruptedException e) {
+                // 남은 이벤트는 stop()에서 저장
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<LoginEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+        log.info("Login event recorder stopped: written={}, dropped={}, failed={}",
+                written.get(), dropped.get(), failed.get());
+    }
+
+    private void write(List<LoginEvent> batch) {
+        try {
+            WorkloadContext.run(Workload.BATCH, () -> loginEventBatchRepository.insertAll(batch));
+            written.addAndGet(batch.size());
+        } catch (Exception e) {
+            log.warn("Failed to write {} login events in batch, retrying one by one: {}", batch.size(), e.getMessage());
+            writeOneByOne(batch);
+        }
+    }
+
+    private void writeOneByOne(List<LoginEvent> batch) {
+        for (LoginEvent event : batch) {
+            try {
+                WorkloadContext.run(Workload.BATCH, () -> loginEventBatchRepository.insertAll(List.of(event)));
+                written.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.warn("Failed to write login event (email={}, type={}): {}",
+                        event.getEmail(), event.getEventType(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 버려진 이벤트가 있으면 최대 10초에 한 번 경고 로그
+     */
+    private void reportDropped() {
+        long now = System.currentTimeMillis();
+        long current = dropped.get();
+        if (current > lastReportedDropped && now - lastReportedAt >= DROP_REPORT_INTERVAL_MILLIS) {
+            lastReportedAt = now;
+            log.warn("Login events dropped (queue full): {} since last report, {} total",
+                    current - lastReportedDropped, current);
+            lastReportedDropped = current;
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
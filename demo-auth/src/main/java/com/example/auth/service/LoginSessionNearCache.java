@@ -0,0 +1,222 @@
+package com.example.auth.service;
+
+import com.example.auth.config.RedisGuardConfig;
+import com.example.auth.domain.LoginSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그인 세션 near cache (인스턴스 로컬 Caffeine 캐시)
+ *
+ * 항목은 Redis 키의 남은 TTL과 near-cache 최대 TTL 중 짧은 시간에 만료되며,
+ * 세션 변경(저장/교체/삭제)은 Redis pub/sub 채널로 모든 인스턴스에 전파되어 즉시 무효화됩니다.
+ * 메시지가 유실되더라도 최대 TTL 이후에는 Redis 값으로 다시 채워집니다.
+ * 구독이 끊긴 동안에는 무효화 메시지를 받을 수 없으므로 캐시를 사용하지 않고, 다시 구독되면 전체를 비운 뒤 사용합니다.
+ *
+ * 무효화마다 이메일별 generation(striped)을 올리고, Redis에서 읽은 값은 읽기 전 generation이 그대로일 때만 적재합니다.
+ * 조회 도중 로그아웃/세션 교체로 무효화된 세션이 뒤늦게 다시 캐시되지 않도록 하기 위함입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginSessionNearCache implements MessageListener {
+
+    /** 세션 무효화 채널, 메시지 본문은 이메일 또는 전체 무효화(*) */
+    static final String INVALIDATION_CHANNEL = "login:session:invalidate";
+    static final String INVALIDATE_ALL = "*";
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private static final List<PatternTopic> KEYEVENT_TOPICS = List.of(
+            new PatternTopic("__keyevent@*__:expired"),
+            new PatternTopic("__keyevent@*__:evicted"),
+            new PatternTopic("__keyevent@*__:del")
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    @Qualifier(RedisGuardConfig.BACKGROUND_REDIS_GUARD)
+    private final RedisGuard redisGuard;
+
+    @Value("${auth.session.near-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.session.near-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${auth.session.near-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    /** Redis 서버에 notify-keyspace-events(Egx 이상)가 설정된 경우에만 활성화 */
+    @Value("${auth.session.near-cache.keyspace-notifications:false}")
+    private boolean keyspaceNotifications;
+
+    private Cache<String, CachedSession> cache;
+
+    /** 이메일 hash별 무효화 횟수, 전체 무효화는 globalGeneration */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    /** 구독이 끊긴 적이 있어 다시 구독되면 전체를 비워야 하는지 여부 */
+    private final AtomicBoolean subscriptionGap = new AtomicBoolean(true);
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new RemainingTtlExpiry())
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        if (keyspaceNotifications) {
+            listenerContainer.addMessageListener(this, KEYEVENT_TOPICS);
+        }
+        log.info("Login session near cache initialized: enabled={}, maxSize={}, ttlSeconds={}",
+                enabled, maxSize, ttlSeconds);
+    }
+
+    /**
+     * @return 캐시에 없으면 null
+     */
+    public LoginSession get(String email) {
+        if (!isUsable()) {
+            return null;
+        }
+        CachedSession cached = cache.getIfPresent(email);
+        return cached != null ? cached.session() : null;
+    }
+
+    /**
+     * 값을 읽기 전에 호출하여 put에 전달 (그 사이 무효화가 있었는지 확인용)
+     */
+    public long generation(String email) {
+        return globalGeneration.get() + generations.get(stripeOf(email));
+    }
+
+    /**
+     * expectedGeneration 이후 무효화가 없었을 때만 적재
+     * 적재 직후 다시 확인하여 그 사이 무효화된 경우 제거 (무효화는 generation 증가 후 항목 제거 순서)
+     *
+     * @param redisTtlMillis     Redis 키의 남은 TTL (PTTL 결과)
+     * @param expectedGeneration 값을 읽기 전의 generation(email)
+     */
+    public void put(String email, LoginSession session, long redisTtlMillis, long expectedGeneration) {
+        if (!isUsable() || redisTtlMillis <= 0 || generation(email) != expectedGeneration) {
+            return;
+        }
+        long ttlMillis = Math.min(redisTtlMillis, TimeUnit.SECONDS.toMillis(ttlSeconds));
+        cache.put(email, new CachedSession(session, ttlMillis));
+        if (generation(email) != expectedGeneration) {
+            cache.invalidate(email);
+        }
+    }
+
+    /**
+     * 로컬 항목만 제거 (다른 인스턴스에는 세션 쓰기 스크립트가 PUBLISH로 전파)
+     */
+    public void evict(String email) {
+        generations.incrementAndGet(stripeOf(email));
+        cache.invalidate(email);
+    }
+
+    /**
+     * 모든 인스턴스의 near cache 비우기 (대량 세션 폐기 등)
+     */
+    public void invalidateAll() {
+        clearLocal();
+        // 전송하지 못한 인스턴스는 최대 TTL 이후 Redis 값으로 다시 채워짐
+        redisGuard.execute("publishInvalidateAll",
+                () -> stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, INVALIDATE_ALL),
+                () -> log.warn("Near cache invalidate-all not published (Redis unavailable), other instances expire within {} s", ttlSeconds));
+    }
+
+    /**
+     * 무효화 채널을 구독 중일 때만 캐시 사용
+     * 구독이 끊겼다가 다시 연결되면 그 사이 놓친 무효화가 있을 수 있으므로 전체를 비움
+     */
+    private boolean isUsable() {
+        if (!enabled) {
+            return false;
+        }
+        if (!listenerContainer.isListening()) {
+            if (subscriptionGap.compareAndSet(false, true)) {
+                log.warn("Near cache bypassed: invalidation channel not subscribed");
+            }
+            return false;
+        }
+        if (subscriptionGap.compareAndSet(true, false)) {
+            clearLocal();
+        }
+        return true;
+    }
+
+    private void clearLocal() {
+        globalGeneration.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static int stripeOf(String email) {
+        return (email.hashCode() & 0x7fffffff) % GENERATION_STRIPES;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (INVALIDATION_CHANNEL.equals(channel)) {
+            if (INVALIDATE_ALL.equals(body)) {
+                clearLocal();
+            } else {
+                evict(body);
+            }
+            return;
+        }
+
+        // keyevent 알림은 본문이 키 이름
+        if (body.startsWith(LoginSessionService.LOGIN_SESSION_KEY_PREFIX)) {
+            evict(body.substring(LoginSessionService.LOGIN_SESSION_KEY_PREFIX.length()));
+        }
+    }
+
+    private record CachedSession(LoginSession session, long ttlMillis) {
+    }
+
+    private static final class RemainingTtlExpiry implements Expiry<String, CachedSession> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedSession value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(value.ttlMillis());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedSession value, long currentTime, long currentDuration) {
+            return TimeUnit.MILLISECONDS.toNanos(value.ttlMillis());
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedSession value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
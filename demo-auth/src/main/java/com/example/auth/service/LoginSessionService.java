@@ -1,73 +1,441 @@
 package com.example.auth.service;
 
+import com.example.auth.config.RedisGuardConfig;
+import com.example.auth.domain.LoginSession;
+import com.example.auth.domain.UserRole;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 로그인 세션 저장소 (Redis Hash)
+ * 세션 값은 StringRedisTemplate으로 일반 문자열로 저장하고, 쓰기는 Lua 스크립트 1회 호출로 처리합니다.
+ * 요청마다 호출되는 세션 확인(hasActiveSession, JwtAuthenticationFilter → LoginSessionValidator)은 LoginSessionNearCache를 먼저 확인하며,
+ * 쓰기 스크립트가 같은 왕복에서 무효화 메시지를 PUBLISH 하여 로그아웃/폐기가 모든 인스턴스의 near cache에 바로 반영됩니다.
+ * refresh token 비교처럼 최신 값이 필요한 조회(loadLoginSession)는 near cache를 거치지 않습니다.
+ *
+ * 모든 Redis 호출은 RedisGuard를 거치며, Redis 장애(회로 open) 중에는 로컬 degraded 모드로 동작합니다.
+ * 스케줄러에서 호출되는 만료 연장(touchSessions)과 대기열 재전송(replayPendingWrites)은 background guard를 사용하여
+ * 요청 경로의 bulkhead 스레드 / 회로 상태에 영향을 주지 않습니다.
+ * - 세션 저장/삭제: 사용자별 최신 쓰기만 로컬 대기열에 보관했다가 Redis 복구 후 재전송
+ * - 세션 조회/교체: 대기 중인 세션이 있으면 그 값을, 없으면 "세션 없음"으로 응답 (refresh는 DB 경로로 처리됨)
+ *
+ * refresh token 재사용으로 세션을 폐기하면 login:revoked:{email}에 폐기 시각을 refresh token 유효기간만큼 남겨,
+ * 세션이 없어도 폐기 이전에 발급된 토큰으로는 세션을 다시 만들 수 없도록 합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LoginSessionService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LoginSessionNearCache nearCache;
+    private final RedisGuard redisGuard;
+    @Qualifier(RedisGuardConfig.BACKGROUND_REDIS_GUARD)
+    private final RedisGuard backgroundRedisGuard;
 
-    private static final String LOGIN_SESSION_KEY_PREFIX = "login:session:";
+    /** Redis에 반영되지 못한 세션 쓰기 (email → 최신 쓰기) */
+    private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+    /** Redis에 반영되지 못한 세션 폐기 (email → 폐기 시각), 이후 세션 쓰기가 대기열을 덮어도 유지되도록 별도 보관 */
+    private final Map<String, Long> pendingRevocations = new ConcurrentHashMap<>();
+
+    @Value("${jwt.refresh-token-validity:604800000}")
+    private long refreshTokenValidityMillis;
+
+    @Value("${auth.redis-guard.replay-capacity:10000}")
+    private int replayCapacity;
+
+    static final String LOGIN_SESSION_KEY_PREFIX = "login:session:";
+    static final String REVOKED_KEY_PREFIX = "login:revoked:";
     private static final long DEFAULT_SESSION_EXPIRE_HOURS = 24;
 
-    public void saveLoginSession(String email, String accessToken, String refreshToken) {
-        String key = LOGIN_SESSION_KEY_PREFIX + email;
+    /**
+     * 세션 저장: 기존 해시 삭제 + HSET + PEXPIRE + 무효화 PUBLISH 를 한 번의 왕복으로 원자적으로 처리
+     * 저장된 세션이 더 최근 로그인이면 덮어쓰지 않음 (degraded 모드 재전송이 새 로그인을 덮지 않도록)
+     * ARGV[1] = 만료(ms), ARGV[2] = 무효화 채널, ARGV[3] = 이메일, ARGV[4] = loginTime, ARGV[5..] = field, value 쌍
+     * 반환값: 1 = 저장, 0 = 더 최근 세션이 있어 건너뜀
+     */
+    private static final RedisScript<Long> SAVE_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], 'loginTime'))
+            if current and current > tonumber(ARGV[4]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 5))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('PUBLISH', ARGV[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * refresh token 교체 (compare-and-set)
+     * 반환값: 1 = 교체 성공, 0 = 저장된 토큰과 불일치(재사용 의심), -1 = 세션 없음
+     */
+    private static final RedisScript<Long> ROTATE_REFRESH_TOKEN_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'refreshTokenHash')
+            if not current then
+                return -1
+            end
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'refreshTokenHash', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('PUBLISH', ARGV[4], ARGV[5])
+            return 1
+            """, Long.class);
+
+    /**
+     * 세션 삭제 + 무효화 PUBLISH
+     * ARGV[3] 시각 이후에 로그인한 세션은 삭제하지 않음
+     * 반환값: 삭제된 키 개수
+     */
+    private static final RedisScript<Long> DELETE_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], 'loginTime'))
+            if current and current > tonumber(ARGV[3]) then
+                return 0
+            end
+            local deleted = redis.call('DEL', KEYS[1])
+            redis.call('PUBLISH', ARGV[1], ARGV[2])
+            return deleted
+            """, Long.class);
 
-        Map<String, Object> sessionData = new HashMap<>();
-        sessionData.put("email", email);
-        sessionData.put("accessToken", accessToken);
-        sessionData.put("refreshToken", refreshToken);
-        sessionData.put("loginTime", LocalDateTime.now().toString());
+    /**
+     * 세션 폐기: 폐기 시각 이전 로그인 세션 삭제 + 폐기 시각 기록(더 늦은 기록은 유지) + 무효화 PUBLISH
+     * KEYS[1] = 세션, KEYS[2] = 폐기 기록
+     * ARGV[1] = 무효화 채널, ARGV[2] = 이메일, ARGV[3] = 폐기 시각, ARGV[4] = 폐기 기록 만료(ms)
+     */
+    private static final RedisScript<Long> REVOKE_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], 'loginTime'))
+            if not current or current <= tonumber(ARGV[3]) then
+                redis.call('DEL', KEYS[1])
+            end
+            local revoked = tonumber(redis.call('GET', KEYS[2]))
+            if not revoked or revoked < tonumber(ARGV[3]) then
+                redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[4])
+            end
+            redis.call('PUBLISH', ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
 
-        redisTemplate.opsForHash().putAll(key, sessionData);
-        redisTemplate.expire(key, Duration.ofHours(DEFAULT_SESSION_EXPIRE_HOURS));
+    public enum RotationResult {
+        ROTATED, REUSED, MISSING
+    }
+
+    public void saveLoginSession(String email, String userId, UserRole userRole, String refreshToken) {
+        LoginSession session = LoginSession.create(email, userId, userRole, refreshToken);
+        long ttlMillis = sessionTtl().toMillis();
+
+        nearCache.evict(email);
+        long generation = nearCache.generation(email);
+        redisGuard.execute("saveLoginSession",
+                () -> {
+                    writeSession(session, ttlMillis);
+                    // 쓰기 전에 시작된 조회가 이전 세션을 적재했을 수 있으므로 다시 제거
+                    nearCache.evict(email);
+                    pendingWrites.remove(email);
+                    log.info("Login session saved to Redis for user: {}", email);
+                },
+                () -> {
+                    queueWrite(email, new PendingWrite(session, System.currentTimeMillis()));
+                    nearCache.put(email, session, ttlMillis, generation);
+                });
+    }
 
-        log.info("Login session saved to Redis for user: {}", email);
+    /**
+     * near cache를 거치지 않고 Redis에서 직접 조회 (HGETALL + PTTL 한 번의 pipeline)
+     * refresh token 비교처럼 최신 값이 필요한 경우 사용
+     */
+    public LoginSession loadLoginSession(String email) {
+        // 조회 도중 로그아웃/교체로 무효화되면 읽은 값을 캐시하지 않도록 조회 전 generation 기록
+        long generation = nearCache.generation(email);
+        return redisGuard.execute("loadLoginSession",
+                () -> readSession(email, generation),
+                () -> {
+                    PendingWrite pending = pendingWrites.get(email);
+                    return pending != null ? pending.session() : null;
+                });
     }
 
-    public Map<Object, Object> getLoginSession(String email) {
+    private LoginSession readSession(String email, long generation) {
         String key = LOGIN_SESSION_KEY_PREFIX + email;
-        Map<Object, Object> sessionData = redisTemplate.opsForHash().entries(key);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.hGetAll(key);
+            redis.pTtl(key);
+            return null;
+        });
 
-        if (sessionData.isEmpty()) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> sessionData = (Map<String, String>) results.get(0);
+        if (sessionData == null || sessionData.isEmpty()) {
             log.warn("No login session found for user: {}", email);
             return null;
         }
 
-        log.info("Login session retrieved from Redis for user: {}", email);
-        return sessionData;
+        LoginSession session = LoginSession.from(sessionData);
+        if (results.get(1) instanceof Long ttlMillis) {
+            nearCache.put(email, session, ttlMillis, generation);
+        }
+        log.debug("Login session retrieved from Redis for user: {}", email);
+        return session;
     }
 
-    public void deleteLoginSession(String email) {
+    /**
+     * 저장된 refresh token이 presentedToken과 같을 때만 새 토큰으로 원자적으로 교체
+     * 교체 시 세션 만료 시간도 연장됨
+     */
+    public RotationResult rotateRefreshToken(String email, String presentedToken, String newRefreshToken) {
         String key = LOGIN_SESSION_KEY_PREFIX + email;
-        Boolean deleted = redisTemplate.delete(key);
+        nearCache.evict(email);
+        // Redis를 사용할 수 없으면 MISSING으로 응답하여 DB 경로로 세션을 다시 구성
+        Long result = redisGuard.execute("rotateRefreshToken",
+                () -> stringRedisTemplate.execute(
+                        ROTATE_REFRESH_TOKEN_SCRIPT,
+                        Collections.singletonList(key),
+                        LoginSession.hashToken(presentedToken),
+                        LoginSession.hashToken(newRefreshToken),
+                        String.valueOf(sessionTtl().toMillis()),
+                        LoginSessionNearCache.INVALIDATION_CHANNEL,
+                        email
+                ),
+                () -> -1L);
+        nearCache.evict(email);
 
-        if (Boolean.TRUE.equals(deleted)) {
-            log.info("Login session deleted from Redis for user: {}", email);
-        } else {
-            log.warn("No login session to delete for user: {}", email);
+        if (result == null || result < 0) {
+            return RotationResult.MISSING;
         }
+        return result == 1 ? RotationResult.ROTATED : RotationResult.REUSED;
     }
 
-    public boolean hasActiveSession(String email) {
-        String key = LOGIN_SESSION_KEY_PREFIX + email;
-        Boolean exists = redisTemplate.hasKey(key);
-        return Boolean.TRUE.equals(exists);
+    public void deleteLoginSession(String email) {
+        long deletedAt = System.currentTimeMillis();
+
+        nearCache.evict(email);
+        redisGuard.execute("deleteLoginSession",
+                () -> {
+                    long deleted = removeSession(email, deletedAt);
+                    nearCache.evict(email);
+                    pendingWrites.remove(email);
+                    if (deleted > 0) {
+                        log.info("Login session deleted from Redis for user: {}", email);
+                    } else {
+                        log.warn("No login session to delete for user: {}", email);
+                    }
+                },
+                () -> queueWrite(email, new PendingWrite(null, deletedAt)));
+    }
+
+    /**
+     * refresh token 재사용(탈취 의심)으로 세션을 폐기하고 폐기 시각을 기록
+     */
+    public void revokeSession(String email) {
+        long revokedAt = System.currentTimeMillis();
+
+        nearCache.evict(email);
+        pendingRevocations.merge(email, revokedAt, Math::max);
+        redisGuard.execute("revokeSession",
+                () -> {
+                    writeRevocation(email, revokedAt);
+                    nearCache.evict(email);
+                    pendingWrites.remove(email);
+                    pendingRevocations.remove(email, revokedAt);
+                    log.info("Login session revoked for user: {}", email);
+                },
+                () -> queueWrite(email, new PendingWrite(null, revokedAt)));
+    }
+
+    /**
+     * @return 마지막 세션 폐기 시각(epoch ms), 폐기 기록이 없으면 null
+     */
+    public Long getRevokedAt(String email) {
+        Long pending = pendingRevocations.get(email);
+        Long stored = redisGuard.execute("getRevokedAt",
+                () -> {
+                    String value = stringRedisTemplate.opsForValue().get(REVOKED_KEY_PREFIX + email);
+                    return value != null ? Long.valueOf(value) : null;
+                },
+                () -> null);
+        if (pending == null || stored == null) {
+            return pending != null ? pending : stored;
+        }
+        return Math.max(pending, stored);
     }
 
+    /**
+     * access token의 세션이 유효한지 확인 (near cache 우선, 없으면 Redis에서 읽어 캐시에 적재)
+     * 세션이 없거나, 토큰이 현재 세션의 로그인 이전에 발급되었으면 false
+     * Redis를 사용할 수 없으면 대기 중인 쓰기/폐기로 판단하고, 없으면 토큰 서명만으로 허용 (장애 중 모든 요청이 거절되지 않도록)
+     */
+    public boolean hasActiveSession(String email, long issuedAtMillis) {
+        LoginSession cached = nearCache.get(email);
+        if (cached != null) {
+            return !cached.isIssuedBeforeLogin(issuedAtMillis);
+        }
+
+        long generation = nearCache.generation(email);
+        return redisGuard.execute("hasActiveSession",
+                () -> {
+                    LoginSession session = readSession(email, generation);
+                    return session != null && !session.isIssuedBeforeLogin(issuedAtMillis);
+                },
+                () -> {
+                    if (pendingRevocations.containsKey(email)) {
+                        return false;
+                    }
+                    PendingWrite pending = pendingWrites.get(email);
+                    if (pending == null) {
+                        return true;
+                    }
+                    return pending.session() != null && !pending.session().isIssuedBeforeLogin(issuedAtMillis);
+                });
+    }
+
+
     public void updateSessionExpiry(String email, long hours) {
         String key = LOGIN_SESSION_KEY_PREFIX + email;
-        redisTemplate.expire(key, Duration.ofHours(hours));
+        nearCache.evict(email);
+        redisGuard.execute("updateSessionExpiry", () -> stringRedisTemplate.expire(key, Duration.ofHours(hours)));
         log.info("Session expiry updated for user: {} to {} hours", email, hours);
     }
+
+    /**
+     * 여러 세션의 만료 시간을 한 번의 pipeline으로 기본 TTL만큼 연장 (sliding expiry)
+     * 이미 만료/삭제된 세션은 PEXPIRE가 무시되므로 다시 살아나지 않음
+     */
+    public void touchSessions(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        long ttlMillis = sessionTtl().toMillis();
+        backgroundRedisGuard.execute("touchSessions", () -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String email : emails) {
+                redis.pExpire(LOGIN_SESSION_KEY_PREFIX + email, ttlMillis);
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * degraded 모드 중 쌓인 세션 쓰기를 Redis에 재전송 (background guard의 회로가 닫히거나 시험 호출이 가능할 때)
+     * 대기 중에 지난 시간만큼 TTL을 줄여서 저장하고, 이미 만료된 세션은 버림
+     * 요청 guard의 회로는 요청 경로의 시험 호출로 복구되며, 그 전에 재전송이 끝나도 이후 쓰기는 다시 대기열에 쌓였다가 재전송됨
+     */
+    @Scheduled(fixedDelayString = "${auth.redis-guard.replay-interval-ms:2000}")
+    public void replayPendingWrites() {
+        if ((pendingWrites.isEmpty() && pendingRevocations.isEmpty()) || !backgroundRedisGuard.isCallPermitted()) {
+            return;
+        }
+
+        // 폐기 기록을 먼저 반영해야 이후 재전송되는 세션 저장보다 폐기가 늦게 적용되지 않음
+        for (Map.Entry<String, Long> entry : pendingRevocations.entrySet()) {
+            String email = entry.getKey();
+            long revokedAt = entry.getValue();
+            boolean replayed = backgroundRedisGuard.execute("replayPendingRevocation", () -> {
+                writeRevocation(email, revokedAt);
+                return true;
+            }, () -> false);
+            if (!replayed) {
+                log.warn("Replay of pending session revocations paused, remaining={}", pendingRevocations.size());
+                return;
+            }
+            pendingRevocations.remove(email, revokedAt);
+        }
+
+        for (Map.Entry<String, PendingWrite> entry : pendingWrites.entrySet()) {
+            String email = entry.getKey();
+            PendingWrite pending = entry.getValue();
+            long remainingTtlMillis = sessionTtl().toMillis() - (System.currentTimeMillis() - pending.queuedAt());
+
+            boolean replayed = backgroundRedisGuard.execute("replayPendingWrite", () -> {
+                if (pending.session() == null) {
+                    removeSession(email, pending.queuedAt());
+                } else if (remainingTtlMillis > 0) {
+                    writeSession(pending.session(), remainingTtlMillis);
+                }
+                return true;
+            }, () -> false);
+
+            if (!replayed) {
+                log.warn("Replay of pending session writes paused, remaining={}", pendingWrites.size());
+                return;
+            }
+            pendingWrites.remove(email, pending);
+        }
+        log.info("Pending session writes replayed to Redis");
+    }
+
+    private void writeSession(LoginSession session, long ttlMillis) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlMillis));
+        args.add(LoginSessionNearCache.INVALIDATION_CHANNEL);
+        args.add(session.email());
+        args.add(String.valueOf(session.loginTime()));
+        for (Map.Entry<String, String> field : session.toHash().entrySet()) {
+            args.add(field.getKey());
+            args.add(field.getValue());
+        }
+
+        String key = LOGIN_SESSION_KEY_PREFIX + session.email();
+        stringRedisTemplate.execute(SAVE_SESSION_SCRIPT, Collections.singletonList(key), args.toArray());
+    }
+
+    private void writeRevocation(String email, long revokedAt) {
+        stringRedisTemplate.execute(
+                REVOKE_SESSION_SCRIPT,
+                List.of(LOGIN_SESSION_KEY_PREFIX + email, REVOKED_KEY_PREFIX + email),
+                LoginSessionNearCache.INVALIDATION_CHANNEL,
+                email,
+                String.valueOf(revokedAt),
+                String.valueOf(refreshTokenValidityMillis)
+        );
+    }
+
+    private long removeSession(String email, long loggedInBefore) {
+        Long deleted = stringRedisTemplate.execute(
+                DELETE_SESSION_SCRIPT,
+                Collections.singletonList(LOGIN_SESSION_KEY_PREFIX + email),
+                LoginSessionNearCache.INVALIDATION_CHANNEL,
+                email,
+                String.valueOf(loggedInBefore)
+        );
+        return deleted != null ? deleted : 0;
+    }
+
+    private void queueWrite(String email, PendingWrite write) {
+        if (pendingWrites.size() >= replayCapacity && !pendingWrites.containsKey(email)) {
+            log.error("Pending session write dropped (replay queue full): {}", email);
+            return;
+        }
+        pendingWrites.put(email, write);
+        log.warn("Redis unavailable, session write queued for replay: {}", email);
+    }
+
+    private Duration sessionTtl() {
+        return Duration.ofHours(DEFAULT_SESSION_EXPIRE_HOURS);
+    }
+
+    /**
+     * @param session null이면 삭제
+     */
+    private record PendingWrite(LoginSession session, long queuedAt) {
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.auth.service;
+
+import com.example.security.jwt.SessionValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 요청마다 access token의 로그인 세션 확인 (near cache 우선이므로 대부분 네트워크 호출 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginSessionValidator implements SessionValidator {
+
+    private final LoginSessionService loginSessionService;
+
+    @Override
+    public boolean isActive(String email, Date issuedAt) {
+        return loginSessionService.hasActiveSession(email, issuedAt.getTime());
+    }
+}
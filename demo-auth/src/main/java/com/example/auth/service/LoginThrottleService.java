@@ -0,0 +1,317 @@
+package com.example.auth.service;
+
+import com.example.auth.config.RedisGuardConfig;
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 로그인 실패 횟수 제한 (이메일/IP 별 sliding window)
+ *
+ * 로그인 요청 경로(한도 확인, 실패/성공 기록)는 로컬 카운터만 사용하여 네트워크 호출이 없습니다.
+ * 백그라운드 동기화가 sync-interval마다 쌓인 증가분과 초기화를 Lua 호출 1회로 Redis에 일괄 반영하고,
+ * 같은 호출에서 최근 확인된 키의 합계(다른 인스턴스 포함)를 refresh-interval 주기로 다시 읽어 로컬 카운터에 반영합니다.
+ * 따라서 다른 인스턴스에서 발생한 실패는 최대 동기화 주기만큼 늦게 반영됩니다.
+ * 로컬 카운터와 초기화 대기열은 크기가 제한된 Caffeine 캐시에 보관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginThrottleService {
+
+    private static final String THROTTLE_KEY_PREFIX = "login:throttle:";
+    private static final String EMAIL_KEY = "email:";
+    private static final String IP_KEY = "ip:";
+
+    /**
+     * 키마다 증가량이 있으면 현재 window 카운터 증가 + 만료 설정, 현재/이전 window 합계 반환
+     * (증가량 0은 조회만 하여 실패가 없는 키를 Redis에 만들지 않음)
+     * KEYS = 키별 (현재 window, 이전 window) 쌍, ARGV[1] = 만료(ms), ARGV[2..] = 키별 증가량
+     * 반환값: 키별 (현재 합계, 이전 합계)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local totals = {}
+            local arg = 2
+            for i = 1, #KEYS, 2 do
+                local delta = tonumber(ARGV[arg])
+                arg = arg + 1
+                local current
+                if delta > 0 then
+                    current = redis.call('INCRBY', KEYS[i], delta)
+                    redis.call('PEXPIRE', KEYS[i], ARGV[1])
+                else
+                    current = tonumber(redis.call('GET', KEYS[i]) or '0')
+                end
+                totals[#totals + 1] = current
+                totals[#totals + 1] = tonumber(redis.call('GET', KEYS[i + 1]) or '0')
+            end
+            return totals
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    /** 주기 동기화만 Redis를 사용하며, 로그인 경로와 회로/스레드를 분리 */
+    @Qualifier(RedisGuardConfig.BACKGROUND_REDIS_GUARD)
+    private final RedisGuard backgroundRedisGuard;
+
+    @Value("${auth.login-throttle.window-seconds:300}")
+    private long windowSeconds;
+
+    @Value("${auth.login-throttle.max-failures-per-email:5}")
+    private int maxFailuresPerEmail;
+
+    @Value("${auth.login-throttle.max-failures-per-ip:50}")
+    private int maxFailuresPerIp;
+
+    /** 최근 확인된 키의 Redis 합계를 백그라운드 동기화에서 다시 읽는 주기 */
+    @Value("${auth.login-throttle.refresh-interval-ms:2000}")
+    private long refreshIntervalMillis;
+
+    @Value("${auth.login-throttle.max-tracked-keys:100000}")
+    private long maxTrackedKeys;
+
+    private Cache<String, WindowCounter> counters;
+    /** 다음 동기화 때 Redis에서 삭제할 키 (로그인 성공으로 초기화된 카운터) */
+    private Cache<String, Boolean> pendingResets;
+
+    @PostConstruct
+    public void init() {
+        // 두 window가 모두 지난 카운터는 영향이 없으므로 그 이후 접근이 없으면 제거
+        Duration idleTimeout = Duration.ofMillis(windowMillis() * 2);
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.pendingResets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterWrite(idleTimeout)
+                .build();
+    }
+
+    /**
+     * 비밀번호 검증 전에 호출, 한도를 넘은 경우 TOO_MANY_LOGIN_ATTEMPTS 예외 발생
+     */
+    public void checkAllowed(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+
+        if (estimate(emailKey(email), now) >= maxFailuresPerEmail) {
+            log.warn("Login throttled by email: {}", email);
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (clientIp != null && estimate(IP_KEY + clientIp, now) >= maxFailuresPerIp) {
+            log.warn("Login throttled by ip: {}", clientIp);
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    /**
+     * 로컬 카운터만 증가 (Redis 반영은 다음 동기화 때 일괄 처리)
+     */
+    public void recordFailure(String email, String clientIp) {
+        long window = System.currentTimeMillis() / windowMillis();
+        counters.get(emailKey(email), key -> new WindowCounter()).addPending(window);
+        if (clientIp != null) {
+            counters.get(IP_KEY + clientIp, key -> new WindowCounter()).addPending(window);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 이메일 카운터 초기화 (Redis 삭제는 다음 동기화 때 일괄 처리)
+     */
+    public void recordSuccess(String email) {
+        String key = emailKey(email);
+        WindowCounter counter = counters.asMap().remove(key);
+        if (counter != null && counter.hasFailures(System.currentTimeMillis(), windowMillis())) {
+            pendingResets.put(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 로컬 증가분과 초기화를 Redis에 일괄 반영하고, 최근 확인된 키의 합계(다른 인스턴스 포함)를 다시 읽음
+     */
+    @Scheduled(fixedDelayString = "${auth.login-throttle.sync-interval-ms:2000}")
+    public void syncWithRedis() {
+        long now = System.currentTimeMillis();
+        long window = now / windowMillis();
+
+        List<String> resets = new ArrayList<>(pendingResets.asMap().keySet());
+        List<String> keys = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        for (Map.Entry<String, WindowCounter> entry : counters.asMap().entrySet()) {
+            WindowCounter counter = entry.getValue();
+            boolean refresh = counter.needsRefresh(now, refreshIntervalMillis);
+            long delta = counter.drainPending(window);
+            if (delta > 0 || refresh) {
+                keys.add(entry.getKey());
+                deltas.add(delta);
+            }
+        }
+        if (keys.isEmpty() && resets.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (!resets.isEmpty()) {
+                List<String> redisKeys = new ArrayList<>();
+                for (String key : resets) {
+                    redisKeys.add(redisKey(key, window));
+                    redisKeys.add(redisKey(key, window - 1));
+                }
+                backgroundRedisGuard.execute("syncLoginThrottleResets", () -> stringRedisTemplate.delete(redisKeys));
+                resets.forEach(pendingResets::invalidate);
+            }
+            if (!keys.isEmpty()) {
+                List<Long> totals = backgroundRedisGuard.execute("syncLoginThrottle", () -> increment(keys, window, deltas));
+                for (int i = 0; i < keys.size(); i++) {
+                    WindowCounter counter = counters.getIfPresent(keys.get(i));
+                    if (counter != null) {
+                        counter.applyRemote(window, totals.get(i * 2), totals.get(i * 2 + 1), now);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Login throttle sync with Redis failed: {}", e.getMessage());
+            for (int i = 0; i < keys.size(); i++) {
+                WindowCounter counter = counters.getIfPresent(keys.get(i));
+                if (counter != null) {
+                    counter.restorePending(window, deltas.get(i));
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> increment(List<String> keys, long window, List<Long> deltas) {
+        List<String> redisKeys = new ArrayList<>(keys.size() * 2);
+        for (String key : keys) {
+            redisKeys.add(redisKey(key, window));
+            redisKeys.add(redisKey(key, window - 1));
+        }
+        Object[] args = new Object[deltas.size() + 1];
+        args[0] = String.valueOf(windowMillis() * 2);
+        for (int i = 0; i < deltas.size(); i++) {
+            args[i + 1] = String.valueOf(deltas.get(i));
+        }
+        return stringRedisTemplate.execute(INCREMENT_SCRIPT, redisKeys, args);
+    }
+
+    /**
+     * 확인한 키는 로컬 카운터를 만들어 두어 다음 동기화 때 다른 인스턴스의 합계를 읽도록 함
+     */
+    private long estimate(String key, long now) {
+        WindowCounter counter = counters.get(key, k -> new WindowCounter());
+        counter.markChecked();
+        return counter.estimate(now, windowMillis());
+    }
+
+    private long windowMillis() {
+        return windowSeconds * 1000;
+    }
+
+    private static String emailKey(String email) {
+        return EMAIL_KEY + email.toLowerCase(Locale.ROOT);
+    }
+
+    private static String redisKey(String key, long window) {
+        return THROTTLE_KEY_PREFIX + key + ":" + window;
+    }
+
+    /**
+     * 고정 window 두 개(현재/이전)로 sliding window 값을 근사하는 카운터
+     * synced: Redis에서 읽은 현재 window 합계(다른 인스턴스 포함), pending: 아직 반영되지 않은 로컬 증가분
+     * checked: 마지막 Redis 조회 이후 한도 확인에 사용되었는지 여부 (사용된 키만 다시 읽음)
+     */
+    private static final class WindowCounter {
+        private long window = -1;
+        private long previous;
+        private long synced;
+        private long pending;
+        private long refreshedAt;
+        private boolean checked;
+
+        private synchronized void applyRemote(long remoteWindow, long currentTotal, long previousTotal, long now) {
+            roll(remoteWindow);
+            if (window != remoteWindow) {
+                return;
+            }
+            synced = currentTotal;
+            previous = Math.max(previous, previousTotal);
+            refreshedAt = now;
+            checked = false;
+        }
+
+        private synchronized void markChecked() {
+            checked = true;
+        }
+
+        private synchronized void addPending(long nowWindow) {
+            roll(nowWindow);
+            pending++;
+        }
+
+        /**
+         * @return Redis에 보낼 증가분 (현재 window만, 지난 window의 미반영분은 버림)
+         */
+        private synchronized long drainPending(long nowWindow) {
+            roll(nowWindow);
+            long delta = pending;
+            synced += delta;
+            pending = 0;
+            return delta;
+        }
+
+        private synchronized void restorePending(long sentWindow, long delta) {
+            if (window == sentWindow) {
+                synced -= delta;
+                pending += delta;
+            }
+        }
+
+        private synchronized boolean needsRefresh(long now, long refreshIntervalMillis) {
+            return checked && now - refreshedAt >= refreshIntervalMillis;
+        }
+
+        private synchronized boolean hasFailures(long now, long windowMillis) {
+            return estimate(now, windowMillis) > 0 || pending > 0;
+        }
+
+        private long current() {
+            return synced + pending;
+        }
+
+        private void roll(long nowWindow) {
+            if (nowWindow <= window) {
+                return;
+            }
+            previous = (nowWindow == window + 1) ? current() : 0;
+            window = nowWindow;
+            synced = 0;
+            pending = 0;
+            // 새 window는 다른 인스턴스의 합계를 다시 읽도록 함
+            refreshedAt = 0;
+        }
+
+        private synchronized long estimate(long now, long windowMillis) {
+            roll(now / windowMillis);
+            double elapsedRatio = (double) (now % windowMillis) / windowMillis;
+            return current() + (long) Math.floor(previous * (1 - elapsedRatio));
+        }
+    }
+}
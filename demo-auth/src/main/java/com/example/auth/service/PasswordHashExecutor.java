@@ -0,0 +1,117 @@
+package com.example.auth.service;
+
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기
+ * 요청 스레드 대신 크기가 제한된 전용 스레드 풀에서 해시 연산을 수행하고,
+ * 대기열이 가득 차면 즉시 503(SERVICE_UNAVAILABLE)으로 거절합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${auth.password-hash.pool-size:0}")
+    private int poolSize;
+
+    @Value("${auth.password-hash.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${auth.password-hash.wait-timeout-ms:3000}")
+    private long waitTimeoutMillis;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        log.info("Password hash executor started: threads={}, queueCapacity={}", threads, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해시 작업을 전용 풀에서 실행하고 결과를 기다림
+     * 대기열 초과 또는 대기 시간 초과 시 SERVICE_UNAVAILABLE 예외 발생
+     */
+    public <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hash executor saturated: active={}, queued={}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password hash timed out after {} ms", waitTimeoutMillis);
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 결과를 기다리지 않는 백그라운드 작업 (해시 업그레이드 등)
+     *
+     * @return 대기열이 가득 차서 거절된 경우 false
+     */
+    public boolean trySubmit(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.auth.service;
+
+import com.example.common.deadline.RequestDeadline;
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Redis 호출 보호 (circuit breaker + bulkhead + 호출별 deadline)
+ *
+ * 모든 호출은 크기가 제한된 전용 스레드 풀에서 실행되고 call-timeout 안에 끝나지 않으면 실패로 처리합니다.
+ * 요청 기한(RequestDeadline)이 call-timeout보다 먼저 끝나면 남은 시간만 기다린 뒤 호출을 취소하고
+ * DEADLINE_EXCEEDED(504)를 던집니다. 이 경우는 Redis 장애가 아니므로 실패율에 포함하지 않습니다.
+ * 최근 호출의 실패율이 기준을 넘으면 open-duration 동안 Redis를 호출하지 않고 바로 fallback을 실행하며,
+ * 이후 1건의 시험 호출(half-open)이 성공하면 다시 닫힙니다.
+ *
+ * 요청 경로용과 백그라운드 작업용 인스턴스가 따로 등록됩니다 (RedisGuardConfig).
+ */
+@Slf4j
+public class RedisGuard {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final long callTimeoutMillis;
+    private final int poolSize;
+    private final int queueCapacity;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMillis;
+
+    private ThreadPoolExecutor executor;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    /** 최근 호출 결과 (true = 실패), slidingWindowSize 크기의 ring buffer */
+    private boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    public RedisGuard(String name, RedisGuardProperties properties) {
+        this.name = name;
+        this.callTimeoutMillis = properties.getCallTimeoutMs();
+        this.poolSize = properties.getPoolSize();
+        this.queueCapacity = properties.getQueueCapacity();
+        this.slidingWindowSize = properties.getSlidingWindowSize();
+        this.minimumCalls = properties.getMinimumCalls();
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.openDurationMillis = properties.getOpenDurationMs();
+    }
+
+    @PostConstruct
+    public void init() {
+        this.outcomes = new boolean[slidingWindowSize];
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("redis-guard-" + name + "-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        log.info("Redis guard [{}] started: callTimeoutMs={}, poolSize={}, queueCapacity={}",
+                name, callTimeoutMillis, poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 지금 Redis 호출이 허용되는지 여부 (상태만 확인하며 half-open 시험 호출 권한은 가져가지 않음)
+     */
+    public boolean isCallPermitted() {
+        return state == State.CLOSED
+                || System.currentTimeMillis() - openedAt >= openDurationMillis && !trialInFlight.get();
+    }
+
+    /**
+     * Redis 작업 실행, 회로가 열려 있거나 실패/시간 초과 시 fallback 결과 반환
+     */
+    public <T> T execute(String operation, Supplier<T> action, Supplier<T> fallback) {
+        RequestDeadline.check();
+        long remainingMillis = RequestDeadline.remainingMillis();
+        boolean deadlineBound = remainingMillis < callTimeoutMillis;
+        long timeoutMillis = deadlineBound ? remainingMillis : callTimeoutMillis;
+
+        boolean trial = false;
+        if (state != State.CLOSED) {
+            trial = tryAcquireTrial();
+            if (!trial) {
+                return fallback.get();
+            }
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(action::get);
+        } catch (RejectedExecutionException e) {
+            log.warn("Redis bulkhead [{}] full, operation={}", name, operation);
+            onFailure(trial);
+            return fallback.get();
+        }
+
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            onSuccess(trial);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            if (deadlineBound) {
+                // 시험 호출 권한은 반납하고 회로 상태는 유지
+                if (trial) {
+                    trialInFlight.set(false);
+                }
+                log.debug("Redis call cancelled at request deadline after {} ms, operation={}", timeoutMillis, operation);
+                throw new BusinessException(ErrorCode.DEADLINE_EXCEEDED);
+            }
+            log.warn("Redis call timed out after {} ms, operation={}", callTimeoutMillis, operation);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Redis call failed, operation={}: {}", operation, e.getCause().toString());
+        }
+        onFailure(trial);
+        return fallback.get();
+    }
+
+    public void execute(String operation, Runnable action, Runnable fallback) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        }, () -> {
+            fallback.run();
+            return null;
+        });
+    }
+
+    /**
+     * fallback이 없는 작업, 실패 시 SERVICE_UNAVAILABLE 예외 발생
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        return execute(operation, action, () -> {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        });
+    }
+
+    private boolean tryAcquireTrial() {
+        if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+            return false;
+        }
+        if (!trialInFlight.compareAndSet(false, true)) {
+            return false;
+        }
+        state = State.HALF_OPEN;
+        return true;
+    }
+
+    private void onSuccess(boolean trial) {
+        if (trial) {
+            synchronized (this) {
+                resetWindow();
+                state = State.CLOSED;
+            }
+            trialInFlight.set(false);
+            log.info("Redis circuit [{}] closed", name);
+            return;
+        }
+        record(false);
+    }
+
+    private void onFailure(boolean trial) {
+        if (trial) {
+            open();
+            trialInFlight.set(false);
+            return;
+        }
+        if (record(true)) {
+            open();
+        }
+    }
+
+    /**
+     * @return 실패율이 기준을 넘어 회로를 열어야 하면 true
+     */
+    private synchronized boolean record(boolean failed) {
+        if (state != State.CLOSED) {
+            return false;
+        }
+        if (recordedCalls == slidingWindowSize) {
+            if (outcomes[outcomeIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % slidingWindowSize;
+
+        return recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls;
+    }
+
+    private synchronized void open() {
+        openedAt = System.currentTimeMillis();
+        state = State.OPEN;
+        resetWindow();
+        log.warn("Redis circuit [{}] opened for {} ms", name, openDurationMillis);
+    }
+
+    private void resetWindow() {
+        outcomeIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.auth.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * RedisGuard 설정 (auth.redis-guard.*, 백그라운드 작업용은 auth.redis-guard.background.*)
+ */
+@Getter
+@Setter
+public class RedisGuardProperties {
+
+    /** 호출 1건의 최대 대기 시간 (요청 기한이 더 짧으면 남은 시간까지만 대기) */
+    private long callTimeoutMs = 200;
+
+    private int poolSize = 16;
+
+    private int queueCapacity = 64;
+
+    private int slidingWindowSize = 20;
+
+    /** 실패율을 계산하기 위한 최소 호출 수 */
+    private int minimumCalls = 10;
+
+    /** % */
+    private int failureRateThreshold = 50;
+
+    private long openDurationMs = 5000;
+}
@@ -0,0 +1,127 @@
+package com.example.auth.service;
+
+import com.example.auth.config.CacheConfig;
+import com.example.auth.domain.LoginInfo;
+import com.example.auth.domain.UserInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hibernate 2차 캐시(loginInfo / userInfo region)와 userProfile 캐시 인스턴스 간 무효화
+ *
+ * 두 캐시 모두 인스턴스 로컬(Ehcache / Caffeine)이므로, 변경을 커밋한 인스턴스가 Redis pub/sub 채널로 엔티티 id와 email을 전파하고
+ * 다른 인스턴스는 해당 항목을 region과 userProfile 캐시에서 제거합니다.
+ * JPQL 벌크 UPDATE는 엔티티 이벤트가 없어 전파되지 않으므로 대상 엔티티는 엔티티 변경으로 수정합니다.
+ * 메시지가 유실되거나 구독이 끊긴 동안의 변경은 region TTL(ehcache.xml) 이후 DB 값으로 다시 채워지며,
+ * 다시 구독되면 그 사이 놓친 무효화가 있을 수 있으므로 대상 region 전체를 비웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator implements MessageListener {
+
+    /** 2차 캐시 무효화 채널, 메시지 본문은 "인스턴스 ID|엔티티명|id|email" (email이 없으면 빈 값) */
+    static final String INVALIDATION_CHANNEL = "l2:cache:invalidate";
+
+    private static final List<Class<?>> ENTITIES = List.of(LoginInfo.class, UserInfo.class);
+
+    /** 엔티티 리스너(SecondLevelCacheListener)가 EntityManagerFactory 생성 중에 만들어지므로 지연 조회 */
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    /** 변경 요청의 커밋 직후 호출되므로 요청 경로용 guard (call-timeout이 짧음) */
+    private final RedisGuard redisGuard;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /** 구독이 끊긴 적이 있어 다시 구독되면 region을 비워야 하는지 여부 */
+    private final AtomicBoolean subscriptionGap = new AtomicBoolean(false);
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 다른 인스턴스의 2차 캐시에서 엔티티, userProfile 캐시에서 email 항목 제거
+     * (로컬 2차 캐시는 Hibernate가 커밋 시 갱신, 로컬 userProfile은 UserProfileCacheListener가 제거)
+     */
+    public void evict(Class<?> entityClass, UUID id, String email) {
+        String target = entityClass.getSimpleName() + "|" + id + "|" + (email != null ? email : "");
+        redisGuard.execute("publishSecondLevelCacheInvalidation",
+                () -> stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + "|" + target),
+                () -> log.warn("Second-level cache invalidation not published (Redis unavailable): {}", target));
+    }
+
+    /**
+     * 구독이 끊겼다가 다시 연결되면 대상 region 전체를 비움
+     */
+    @Scheduled(fixedDelayString = "${auth.l2-cache.subscription-check-ms:5000}")
+    public void checkSubscription() {
+        if (!listenerContainer.isListening()) {
+            if (subscriptionGap.compareAndSet(false, true)) {
+                log.warn("Second-level cache invalidation channel not subscribed, relying on region TTL");
+            }
+            return;
+        }
+        if (subscriptionGap.compareAndSet(true, false)) {
+            ENTITIES.forEach(this::evictLocal);
+            Cache userProfiles = cacheManager.getCache(CacheConfig.USER_PROFILE_CACHE);
+            if (userProfiles != null) {
+                userProfiles.clear();
+            }
+            log.info("Second-level cache regions and user profile cache cleared after resubscribe");
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // email에 구분자가 있을 수 있으므로 마지막 항목으로 둠
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        Class<?> entityClass = ENTITIES.stream()
+                .filter(type -> type.getSimpleName().equals(parts[1]))
+                .findFirst()
+                .orElse(null);
+        if (entityClass == null) {
+            return;
+        }
+
+        // 대상 엔티티의 id는 모두 UUID
+        entityManagerFactory.getObject().getCache().evict(entityClass, UUID.fromString(parts[2]));
+        if (parts.length == 4 && !parts[3].isEmpty()) {
+            Cache userProfiles = cacheManager.getCache(CacheConfig.USER_PROFILE_CACHE);
+            if (userProfiles != null) {
+                userProfiles.evict(parts[3]);
+            }
+        }
+        log.debug("Second-level cache evicted by remote change: {} {}", parts[1], parts[2]);
+    }
+
+    private void evictLocal(Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.getObject().unwrap(SessionFactoryImplementor.class);
+        sessionFactory.getCache().evictEntityData(entityClass);
+        sessionFactory.getCache().evictNaturalIdData(entityClass);
+    }
+}
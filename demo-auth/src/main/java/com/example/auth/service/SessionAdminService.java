@@ -0,0 +1,288 @@
+package com.example.auth.service;
+
+import com.example.auth.config.RedisGuardConfig;
+import com.example.auth.domain.LoginSession;
+import com.example.auth.domain.UserRole;
+import com.example.auth.dto.SessionPageResponse;
+import com.example.auth.dto.SessionRevocationResponse;
+import com.example.auth.dto.SessionSummaryResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 관리자용 로그인 세션 조회/일괄 폐기
+ *
+ * KEYS 대신 SCAN cursor로 조금씩 순회하고 UNLINK를 pipeline으로 보내므로
+ * 세션 수가 많아도 Redis를 오래 점유하지 않습니다. 일괄 폐기는 초당 처리량을 제한하여 백그라운드로 실행됩니다.
+ * 모든 Redis 호출은 백그라운드용 RedisGuard를 거치므로 Redis 장애 시 로그인 경로의 회로/스레드에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionAdminService {
+
+    private static final String SESSION_KEY_PATTERN = LoginSessionService.LOGIN_SESSION_KEY_PREFIX + "*";
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * SCAN 한 단계만 실행하여 다음 cursor와 키 목록 반환 (요청 간에 cursor를 이어가기 위함)
+     * ARGV[1] = cursor, ARGV[2] = pattern, ARGV[3] = count
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SCAN_STEP_SCRIPT = new DefaultRedisScript<>("""
+            return redis.call('SCAN', ARGV[1], 'MATCH', ARGV[2], 'COUNT', ARGV[3])
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LoginSessionNearCache nearCache;
+    @Qualifier(RedisGuardConfig.BACKGROUND_REDIS_GUARD)
+    private final RedisGuard redisGuard;
+
+    private final ExecutorService revocationExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("session-revoke-"));
+    private final AtomicReference<RevocationJob> currentJob = new AtomicReference<>();
+
+    @Value("${auth.session.admin.scan-count:1000}")
+    private int scanCount;
+
+    @Value("${auth.session.admin.unlink-batch-size:500}")
+    private int unlinkBatchSize;
+
+    @Value("${auth.session.admin.max-revocations-per-second:20000}")
+    private long maxRevocationsPerSecond;
+
+    @PreDestroy
+    public void shutdown() {
+        RevocationJob job = currentJob.get();
+        if (job != null) {
+            job.cancelled = true;
+        }
+        revocationExecutor.shutdownNow();
+    }
+
+    /**
+     * 활성 세션 목록 조회
+     * SCAN 특성상 한 페이지의 개수는 size와 다를 수 있으며, 빈 페이지라도 nextCursor가 "0"이 아니면 계속 조회해야 함
+     */
+    public SessionPageResponse listSessions(String cursor, int size) {
+        int count = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ScanStep step = scanStep(cursor != null ? cursor : "0", count);
+
+        return SessionPageResponse.builder()
+                .nextCursor(step.nextCursor())
+                .sessions(loadSummaries(step.keys()))
+                .build();
+    }
+
+    /**
+     * 전체 세션 일괄 폐기 시작 (이미 실행 중이면 현재 작업 상태 반환)
+     * 작업 도중 새로 로그인한 세션도 SCAN에 걸리면 함께 폐기될 수 있음
+     */
+    public SessionRevocationResponse startRevokeAll() {
+        RevocationJob job = new RevocationJob();
+        RevocationJob running = currentJob.get();
+        if (running != null && running.status == JobStatus.RUNNING) {
+            return running.toResponse();
+        }
+        if (!currentJob.compareAndSet(running, job)) {
+            return currentJob.get().toResponse();
+        }
+
+        revocationExecutor.execute(() -> runRevokeAll(job));
+        log.warn("Session revocation job started: jobId={}", job.jobId);
+        return job.toResponse();
+    }
+
+    /**
+     * @return 실행한 적이 없으면 null
+     */
+    public SessionRevocationResponse getRevocationStatus() {
+        RevocationJob job = currentJob.get();
+        return job != null ? job.toResponse() : null;
+    }
+
+    public SessionRevocationResponse cancelRevokeAll() {
+        RevocationJob job = currentJob.get();
+        if (job == null) {
+            return null;
+        }
+        job.cancelled = true;
+        return job.toResponse();
+    }
+
+    private void runRevokeAll(RevocationJob job) {
+        try {
+            String cursor = "0";
+            do {
+                ScanStep step = scanStep(cursor, scanCount);
+                job.scanned.addAndGet(step.keys().size());
+                for (int from = 0; from < step.keys().size() && !job.cancelled; from += unlinkBatchSize) {
+                    unlink(step.keys().subList(from, Math.min(from + unlinkBatchSize, step.keys().size())), job);
+                }
+                cursor = step.nextCursor();
+            } while (!"0".equals(cursor) && !job.cancelled);
+            job.finish(job.cancelled ? JobStatus.CANCELLED : JobStatus.COMPLETED, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(JobStatus.CANCELLED, null);
+        } catch (Exception e) {
+            log.error("Session revocation job failed: jobId={}", job.jobId, e);
+            job.finish(JobStatus.FAILED, e.getMessage());
+        } finally {
+            nearCache.invalidateAll();
+        }
+
+        log.warn("Session revocation job {}: jobId={}, scanned={}, revoked={}",
+                job.status, job.jobId, job.scanned.get(), job.revoked.get());
+    }
+
+    /**
+     * SCAN 한 단계 실행, Redis를 사용할 수 없으면 SERVICE_UNAVAILABLE
+     */
+    private ScanStep scanStep(String cursor, int count) {
+        @SuppressWarnings("unchecked")
+        List<Object> step = redisGuard.execute("scanSessions", () -> stringRedisTemplate.execute(
+                SCAN_STEP_SCRIPT,
+                Collections.emptyList(),
+                cursor,
+                SESSION_KEY_PATTERN,
+                String.valueOf(count)
+        ));
+        if (step == null) {
+            return new ScanStep("0", List.of());
+        }
+        @SuppressWarnings("unchecked")
+        List<String> keys = (List<String>) step.get(1);
+        return new ScanStep((String) step.get(0), keys);
+    }
+
+    /**
+     * UNLINK pipeline 전송 후 초당 처리량 제한에 맞춰 대기
+     */
+    private void unlink(List<String> keys, RevocationJob job) throws InterruptedException {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object> results = redisGuard.execute("unlinkSessions", () -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String key : keys) {
+                redis.unlink(key);
+            }
+            return null;
+        }));
+        for (Object result : results) {
+            if (result instanceof Long removed) {
+                job.revoked.addAndGet(removed);
+            }
+        }
+
+        if (maxRevocationsPerSecond > 0) {
+            long expectedElapsedMillis = job.scanned.get() * 1000 / maxRevocationsPerSecond;
+            long actualElapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - job.startedNanos);
+            if (expectedElapsedMillis > actualElapsedMillis) {
+                Thread.sleep(expectedElapsedMillis - actualElapsedMillis);
+            }
+        }
+    }
+
+    private List<SessionSummaryResponse> loadSummaries(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> results = redisGuard.execute("loadSessionSummaries", () -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String key : keys) {
+                redis.hMGet(key, LoginSession.USER_ID, LoginSession.USER_ROLE, LoginSession.LOGIN_TIME);
+                redis.pTtl(key);
+            }
+            return null;
+        }));
+
+        List<SessionSummaryResponse> sessions = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<String> fields = (List<String>) results.get(i * 2);
+            Long ttlMillis = (Long) results.get(i * 2 + 1);
+            // SCAN 이후 만료/삭제된 키
+            if (fields == null || ttlMillis == null || ttlMillis == -2) {
+                continue;
+            }
+
+            sessions.add(SessionSummaryResponse.builder()
+                    .email(keys.get(i).substring(LoginSessionService.LOGIN_SESSION_KEY_PREFIX.length()))
+                    .userId(fields.get(0))
+                    .userRole(fields.get(1) != null ? UserRole.valueOf(fields.get(1)) : null)
+                    .loginTime(parseLong(fields.get(2)))
+                    .ttlSeconds(ttlMillis > 0 ? ttlMillis / 1000 : ttlMillis)
+                    .build());
+        }
+        return sessions;
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return value != null ? Long.parseLong(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record ScanStep(String nextCursor, List<String> keys) {
+    }
+
+    private enum JobStatus {
+        RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private static final class RevocationJob {
+        private final String jobId = UUID.randomUUID().toString();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong revoked = new AtomicLong();
+        private volatile JobStatus status = JobStatus.RUNNING;
+        private volatile boolean cancelled;
+        private volatile LocalDateTime finishedAt;
+        private volatile String errorMessage;
+
+        private void finish(JobStatus status, String errorMessage) {
+            this.errorMessage = errorMessage;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private SessionRevocationResponse toResponse() {
+            return SessionRevocationResponse.builder()
+                    .jobId(jobId)
+                    .status(status.name())
+                    .scanned(scanned.get())
+                    .revoked(revoked.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 sliding expiry 요청을 모아서 처리
+ *
+ * 인증된 요청마다 Redis EXPIRE를 호출하지 않고, 사용자별로 touch-interval 동안 최대 1회만 기록한 뒤
+ * 주기적으로 모아서 pipeline PEXPIRE로 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionExpiryToucher {
+
+    private final LoginSessionService loginSessionService;
+
+    private final Set<String> pendingTouches = ConcurrentHashMap.newKeySet();
+
+    @Value("${auth.session.sliding.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.session.sliding.touch-interval-seconds:60}")
+    private long touchIntervalSeconds;
+
+    @Value("${auth.session.sliding.max-tracked-users:100000}")
+    private long maxTrackedUsers;
+
+    @Value("${auth.session.sliding.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    /** touch-interval 내에 이미 기록된 사용자 (중복 touch 방지) */
+    private Cache<String, Boolean> recentlyTouched;
+
+    @PostConstruct
+    public void init() {
+        this.recentlyTouched = Caffeine.newBuilder()
+                .maximumSize(maxTrackedUsers)
+                .expireAfterWrite(Duration.ofSeconds(touchIntervalSeconds))
+                .build();
+    }
+
+    /**
+     * 요청 경로에서 호출, 네트워크 호출 없이 로컬에 기록만 함
+     */
+    public void touch(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        if (recentlyTouched.asMap().putIfAbsent(email, Boolean.TRUE) == null) {
+            pendingTouches.add(email);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.session.sliding.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+
+        List<String> batch = new ArrayList<>(flushBatchSize);
+        for (String email : pendingTouches) {
+            pendingTouches.remove(email);
+            batch.add(email);
+            if (batch.size() >= flushBatchSize) {
+                flushBatch(batch);
+                batch = new ArrayList<>(flushBatchSize);
+            }
+        }
+        flushBatch(batch);
+    }
+
+    private void flushBatch(List<String> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            loginSessionService.touchSessions(batch);
+            log.debug("Session expiry touched for {} users", batch.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도, 실패한 사용자는 다음 touch가 다시 기록되도록 제거
+            log.warn("Session expiry flush failed for {} users: {}", batch.size(), e.getMessage());
+            recentlyTouched.invalidateAll(batch);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.auth.service;
+
+import com.example.auth.dto.UserDirectoryItem;
+import com.example.auth.repository.UserInfoRepository;
+import com.example.common.dto.CursorPageResponse;
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+import com.example.db.workload.Workload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 관리자 사용자 목록/검색
+ * offset 대신 마지막 항목 기준 keyset 페이지를 사용하여 페이지 위치와 관계없이 같은 비용으로 조회합니다.
+ * 검색 조건마다 해당 인덱스를 range로 읽는 쿼리를 사용합니다.
+ * - 검색어 없음: 최신 가입 순 (createdAt, userId), idx_users_directory
+ * - 이메일 접두어(이름 접두어와 함께 주어도 이메일 기준): email 순, uk_login_info_email
+ * - 이름 접두어: (userName, userId) 순, idx_users_user_name
+ * cursor는 "정렬 키|userId"를 Base64(URL-safe)로 인코딩한 값이며 클라이언트는 같은 검색 조건으로 그대로 전달만 합니다.
+ */
+@Service
+@Workload(Workload.ADMIN)
+@RequiredArgsConstructor
+public class UserDirectoryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final char LIKE_ESCAPE = '!';
+    private static final String CURSOR_DELIMITER = "|";
+
+    private final UserInfoRepository userInfoRepository;
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserDirectoryItem> getUsers(String cursor, String email, String name, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        String emailPattern = toPrefixPattern(email);
+        String namePattern = toPrefixPattern(name);
+        Cursor position = parseCursor(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<UserDirectoryItem> rows;
+        SortKey sortKey;
+        if (emailPattern != null) {
+            sortKey = UserDirectoryItem::email;
+            rows = userInfoRepository.findDirectoryPageByEmailPrefix(emailPattern, namePattern,
+                    position == null ? null : position.key(), limit);
+        } else if (namePattern != null) {
+            sortKey = UserDirectoryItem::userName;
+            rows = userInfoRepository.findDirectoryPageByNamePrefix(namePattern,
+                    position == null ? null : position.key(),
+                    position == null ? null : position.userId(), limit);
+        } else {
+            sortKey = item -> item.createdAt().toString();
+            rows = userInfoRepository.findDirectoryPage(
+                    position == null ? null : parseCreatedAt(position.key()),
+                    position == null ? null : position.userId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UserDirectoryItem> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? toCursor(items.get(items.size() - 1), sortKey) : null;
+        return new CursorPageResponse<>(List.copyOf(items), nextCursor, hasNext);
+    }
+
+    private static String toCursor(UserDirectoryItem item, SortKey sortKey) {
+        String raw = sortKey.of(item) + CURSOR_DELIMITER + item.userId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor parseCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 정렬 키(이메일 등)에 구분자가 있을 수 있으므로 마지막 구분자 기준 (UUID에는 없음)
+            int delimiter = raw.lastIndexOf(CURSOR_DELIMITER);
+            if (delimiter < 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return new Cursor(raw.substring(0, delimiter), UUID.fromString(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * 다른 검색 조건의 cursor가 전달된 경우 포함
+     */
+    private static LocalDateTime parseCreatedAt(String key) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * 접두어 검색 패턴 (%, _ 및 이스케이프 문자 자체는 일반 문자로 처리)
+     */
+    private static String toPrefixPattern(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+        StringBuilder pattern = new StringBuilder();
+        for (char c : keyword.trim().toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private record Cursor(String key, UUID userId) {
+    }
+
+    @FunctionalInterface
+    private interface SortKey {
+        String of(UserDirectoryItem item);
+    }
+}
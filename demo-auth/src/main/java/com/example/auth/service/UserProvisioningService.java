@@ -0,0 +1,476 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.UserRole;
+import com.example.auth.dto.BulkProvisionResponse;
+import com.example.auth.dto.SignupRequest;
+import com.example.auth.repository.LoginInfoRepository;
+import com.example.auth.repository.UserProvisioningRepository;
+import com.example.auth.repository.UserProvisioningRepository.NewUser;
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+import com.example.common.id.UuidV7Generator;
+import com.example.common.util.SecurityContextUtil;
+import com.example.db.workload.Workload;
+import com.example.db.workload.WorkloadContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.security.crypto.BCryptStrengthCalibrator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 사용자 등록 (CSV / NDJSON)
+ *
+ * 업로드 파일을 임시 파일로 옮긴 뒤 백그라운드 작업으로 한 줄씩 읽어 chunk 단위로 처리합니다.
+ * - 중복 확인: chunk의 이메일을 IN 조회 1회로 확인 (파일 내 중복은 메모리 Set으로 확인)
+ * - 비밀번호 해시: 작업 전용 스레드 풀에서 병렬 처리 (로그인용 PasswordHashExecutor와 분리)
+ *   대량 등록 전용 strength로 해시하며, 첫 로그인 시 upgradeEncoding으로 운영 strength로 재해시됨
+ * - 저장: chunk마다 트랜잭션 1개, 테이블별 JDBC batch insert
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningService {
+
+    private static final int MAX_ERRORS = 100;
+    private static final int MAX_FINISHED_JOBS = 50;
+    private static final List<String> CSV_COLUMNS = List.of("email", "password", "name", "birthDate");
+    private static final String BCRYPT_ID = "bcrypt";
+
+    private final LoginInfoRepository loginInfoRepository;
+    private final UserProvisioningRepository userProvisioningRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService jobExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("user-provisioning-"));
+    private final Map<String, ProvisionJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${auth.provisioning.chunk-size:1000}")
+    private int chunkSize;
+
+    /** 0이면 CPU 코어 수의 절반 (로그인 해시용 코어를 남겨둠) */
+    @Value("${auth.provisioning.hash-threads:0}")
+    private int hashThreads;
+
+    /**
+     * 대량 등록 시 사용할 BCrypt strength (운영 strength보다 낮게 설정)
+     * 저장 형식은 운영 인코더와 같은 {bcrypt} 형식이므로 첫 로그인 시 AuthService가 운영 strength로 재해시함
+     */
+    @Value("${auth.provisioning.bcrypt-strength:" + BCryptStrengthCalibrator.MIN_STRENGTH + "}")
+    private int bulkBcryptStrength;
+
+    private PasswordEncoder bulkPasswordEncoder;
+
+    @PostConstruct
+    public void init() {
+        int strength = Math.max(BCryptStrengthCalibrator.MIN_STRENGTH, bulkBcryptStrength);
+        bulkPasswordEncoder = new DelegatingPasswordEncoder(
+                BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * 업로드 파일을 임시 파일에 저장하고 등록 작업을 대기열에 추가
+     * 작업은 한 번에 하나씩 순서대로 실행됨
+     */
+    public BulkProvisionResponse submit(MultipartFile file) {
+        Format format = Format.of(file.getOriginalFilename());
+        if (file.isEmpty() || format == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("user-provisioning-", format.extension);
+            file.transferTo(spool);
+        } catch (IOException e) {
+            log.error("Failed to spool provisioning upload: {}", file.getOriginalFilename(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        ProvisionJob job = new ProvisionJob(file.getOriginalFilename(), SecurityContextUtil.getCurrentUserEmail());
+        removeFinishedJobs();
+        jobs.put(job.jobId, job);
+        // 대량 INSERT가 로그인/조회 요청의 커넥션을 점유하지 않도록 batch 풀 사용
+        jobExecutor.execute(() -> WorkloadContext.run(Workload.BATCH, () -> run(job, spool, format)));
+
+        log.info("User provisioning job queued: jobId={}, file={}", job.jobId, job.fileName);
+        return job.toResponse();
+    }
+
+    public BulkProvisionResponse getJob(String jobId) {
+        ProvisionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * 완료된 작업 결과는 최근 MAX_FINISHED_JOBS 건만 보관
+     */
+    private void removeFinishedJobs() {
+        List<ProvisionJob> finished = jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing((ProvisionJob job) -> job.finishedAt).reversed())
+                .toList();
+        finished.stream().skip(MAX_FINISHED_JOBS).forEach(job -> jobs.remove(job.jobId));
+    }
+
+    private void run(ProvisionJob job, Path spool, Format format) {
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ExecutorService hashPool = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("provisioning-hash-"));
+        job.start();
+
+        try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+            Set<String> seenEmails = new HashSet<>();
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            Map<String, Integer> header = null;
+            long lineNo = 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && header == null) {
+                    header = parseHeader(line);
+                    continue;
+                }
+
+                job.totalRows.incrementAndGet();
+                SignupRequest request = parseLine(format, line, header, lineNo, job);
+                if (request != null) {
+                    chunk.add(new Row(lineNo, request));
+                }
+                if (chunk.size() >= chunkSize) {
+                    processChunk(job, chunk, seenEmails, hashPool);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            processChunk(job, chunk, seenEmails, hashPool);
+            job.finish(JobStatus.COMPLETED);
+        } catch (Exception e) {
+            log.error("User provisioning job failed: jobId={}", job.jobId, e);
+            job.addError("job aborted: " + e.getMessage());
+            job.finish(JobStatus.FAILED);
+        } finally {
+            hashPool.shutdownNow();
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("Failed to delete provisioning spool file: {}", spool);
+            }
+        }
+
+        log.info("User provisioning job {}: jobId={}, total={}, created={}, duplicates={}, invalid={}, failed={}",
+                job.status, job.jobId, job.totalRows.get(), job.created.get(), job.duplicates.get(),
+                job.invalid.get(), job.failed.get());
+    }
+
+    private void processChunk(ProvisionJob job, List<Row> chunk, Set<String> seenEmails, ExecutorService hashPool)
+            throws InterruptedException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 1. 검증 + 파일 내 중복 제거
+        List<Row> candidates = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            Set<ConstraintViolation<SignupRequest>> violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                job.invalid.incrementAndGet();
+                job.addError("line " + row.lineNo() + ": " + violations.iterator().next().getMessage());
+            } else if (!seenEmails.add(row.request().getEmail().toLowerCase(Locale.ROOT))) {
+                job.duplicates.incrementAndGet();
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // 2. 이미 가입된 이메일 제외 (IN 조회 1회)
+        candidates = excludeExisting(job, candidates);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 3. 비밀번호 해시 병렬 처리
+        List<Future<String>> hashes = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            hashes.add(hashPool.submit(() -> bulkPasswordEncoder.encode(row.request().getPassword())));
+        }
+        List<NewUser> users = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            SignupRequest request = candidates.get(i).request();
+            try {
+                users.add(new NewUser(
+                        UuidV7Generator.next(),
+                        UuidV7Generator.next(),
+                        request.getEmail(),
+                        hashes.get(i).get(),
+                        UserRole.USER,
+                        request.getName(),
+                        request.getBirthDate()
+                ));
+            } catch (ExecutionException e) {
+                job.failed.incrementAndGet();
+                job.addError("line " + candidates.get(i).lineNo() + ": password hash failed");
+            }
+        }
+
+        // 4. batch insert (그 사이 다른 경로로 가입된 이메일이 있으면 제외 후 1회 재시도)
+        try {
+            insert(users, job);
+        } catch (DuplicateKeyException e) {
+            Set<String> existing = findExistingEmails(users.stream().map(NewUser::email).toList());
+            List<NewUser> remaining = users.stream()
+                    .filter(user -> !existing.contains(user.email().toLowerCase(Locale.ROOT)))
+                    .toList();
+            job.duplicates.addAndGet(users.size() - remaining.size());
+            try {
+                insert(remaining, job);
+            } catch (Exception retryFailure) {
+                job.failed.addAndGet(remaining.size());
+                job.addError("chunk ending at line " + chunk.get(chunk.size() - 1).lineNo() + ": " + retryFailure.getMessage());
+            }
+        } catch (Exception e) {
+            job.failed.addAndGet(users.size());
+            job.addError("chunk ending at line " + chunk.get(chunk.size() - 1).lineNo() + ": " + e.getMessage());
+        }
+    }
+
+    private List<Row> excludeExisting(ProvisionJob job, List<Row> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Set<String> existing = findExistingEmails(candidates.stream().map(row -> row.request().getEmail()).toList());
+        if (existing.isEmpty()) {
+            return candidates;
+        }
+        List<Row> remaining = candidates.stream()
+                .filter(row -> !existing.contains(row.request().getEmail().toLowerCase(Locale.ROOT)))
+                .toList();
+        job.duplicates.addAndGet(candidates.size() - remaining.size());
+        return remaining;
+    }
+
+    /**
+     * 이미 가입된 이메일 (소문자, DB collation이 대소문자를 구분하지 않으므로 동일하게 비교)
+     */
+    private Set<String> findExistingEmails(List<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (String email : loginInfoRepository.findExistingEmails(emails)) {
+            existing.add(email.toLowerCase(Locale.ROOT));
+        }
+        return existing;
+    }
+
+    private void insert(List<NewUser> users, ProvisionJob job) {
+        if (users.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> userProvisioningRepository.insertAll(users, job.requestedBy));
+        job.created.addAndGet(users.size());
+    }
+
+    private SignupRequest parseLine(Format format, String line, Map<String, Integer> header, long lineNo, ProvisionJob job) {
+        try {
+            if (format == Format.NDJSON) {
+                return objectMapper.readValue(line, SignupRequest.class);
+            }
+            List<String> values = splitCsv(line);
+            String birthDate = csvValue(values, header, "birthDate");
+            return new SignupRequest(
+                    csvValue(values, header, "email"),
+                    csvValue(values, header, "password"),
+                    csvValue(values, header, "name"),
+                    birthDate != null && !birthDate.isBlank() ? LocalDate.parse(birthDate.trim()) : null
+            );
+        } catch (Exception e) {
+            job.invalid.incrementAndGet();
+            job.addError("line " + lineNo + ": unparseable row");
+            return null;
+        }
+    }
+
+    private static Map<String, Integer> parseHeader(String line) {
+        List<String> columns = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim(), i);
+        }
+        if (!header.keySet().containsAll(CSV_COLUMNS.subList(0, 3))) {
+            throw new IllegalArgumentException("CSV header must contain " + CSV_COLUMNS);
+        }
+        return header;
+    }
+
+    private static String csvValue(List<String> values, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        return index != null && index < values.size() ? values.get(index) : null;
+    }
+
+    /**
+     * 한 줄짜리 CSV 분리 (큰따옴표로 감싼 값과 "" 이스케이프 지원, 줄바꿈이 포함된 값은 지원하지 않음)
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private enum Format {
+        CSV(".csv"), NDJSON(".ndjson");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        private static Format of(String fileName) {
+            if (fileName == null) {
+                return null;
+            }
+            String lower = fileName.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            return null;
+        }
+    }
+
+    private enum JobStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private record Row(long lineNo, SignupRequest request) {
+    }
+
+    private static final class ProvisionJob {
+        private final String jobId = UUID.randomUUID().toString();
+        private final String fileName;
+        private final String requestedBy;
+        private final LocalDateTime queuedAt = LocalDateTime.now();
+        private final AtomicLong totalRows = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final AtomicLong invalid = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private ProvisionJob(String fileName, String requestedBy) {
+            this.fileName = fileName;
+            this.requestedBy = requestedBy != null ? requestedBy : "system";
+        }
+
+        private void addError(String error) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        private void start() {
+            this.startedAt = LocalDateTime.now();
+            this.status = JobStatus.RUNNING;
+        }
+
+        private void finish(JobStatus status) {
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private BulkProvisionResponse toResponse() {
+            List<String> errorSnapshot;
+            synchronized (errors) {
+                errorSnapshot = List.copyOf(errors);
+            }
+            return BulkProvisionResponse.builder()
+                    .jobId(jobId)
+                    .status(status.name())
+                    .fileName(fileName)
+                    .totalRows(totalRows.get())
+                    .created(created.get())
+                    .duplicates(duplicates.get())
+                    .invalid(invalid.get())
+                    .failed(failed.get())
+                    .queuedAt(queuedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errors(errorSnapshot)
+                    .build();
+        }
+    }
+}
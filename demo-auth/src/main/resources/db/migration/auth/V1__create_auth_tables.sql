@@ -0,0 +1,93 @@
+-- ===================================
+-- demo-auth 기본 스키마 (ddl-auto로 생성되던 테이블과 동일)
+-- ===================================
+-- 기존(ddl-auto) DB는 baseline-version 0으로 등록되어 이 스크립트가 실행되므로 IF NOT EXISTS 사용
+-- enum 컬럼은 Hibernate MySQL 매핑(@Enumerated STRING → ENUM)과 같아야 ddl-auto validate를 통과함
+
+CREATE TABLE IF NOT EXISTS tbl_login_info (
+    login_id                BINARY(16)             NOT NULL,
+    email                   VARCHAR(100)           NOT NULL,
+    password                VARCHAR(255)           NOT NULL,
+    user_role               ENUM ('USER', 'ADMIN') NOT NULL,
+    account_non_expired     BIT(1)                 NOT NULL,
+    account_non_locked      BIT(1)                 NOT NULL,
+    credentials_non_expired BIT(1)                 NOT NULL,
+    enabled                 BIT(1)                 NOT NULL,
+    created_at              DATETIME(6)            NOT NULL,
+    updated_at              DATETIME(6)            NOT NULL,
+    created_by              VARCHAR(100),
+    updated_by              VARCHAR(100),
+    del_yn                  VARCHAR(255)           NOT NULL,
+    deleted_at              DATETIME(6),
+    PRIMARY KEY (login_id),
+    UNIQUE KEY uk_login_info_email (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS tbl_users (
+    user_id     BINARY(16)   NOT NULL,
+    user_name   VARCHAR(50)  NOT NULL,
+    birth_date  DATE,
+    login_id    BINARY(16)   NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    created_by  VARCHAR(100),
+    updated_by  VARCHAR(100),
+    del_yn      VARCHAR(255) NOT NULL,
+    deleted_at  DATETIME(6),
+    PRIMARY KEY (user_id),
+    UNIQUE KEY uk_users_login_id (login_id),
+    KEY idx_users_user_name (user_name),
+    CONSTRAINT fk_users_login_info FOREIGN KEY (login_id) REFERENCES tbl_login_info (login_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS tbl_login_event (
+    event_id    BIGINT                                    NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(100)                              NOT NULL,
+    user_id     BINARY(16),
+    event_type  ENUM ('SUCCESS', 'FAILURE', 'THROTTLED')  NOT NULL,
+    client_ip   VARCHAR(45),
+    user_agent  VARCHAR(255),
+    occurred_at DATETIME(6)                               NOT NULL,
+    PRIMARY KEY (event_id),
+    KEY idx_login_event_email (email, occurred_at),
+    KEY idx_login_event_occurred_at (occurred_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+-- soft delete 정리 작업(db.purge) archive 테이블
+-- 원본 테이블의 모든 컬럼 + archived_at, 같은 값(email 등)이 여러 번 보관될 수 있으므로 PK 외 UNIQUE 제약 없음
+
+CREATE TABLE IF NOT EXISTS tbl_users_archive (
+    user_id     BINARY(16)   NOT NULL,
+    user_name   VARCHAR(50),
+    birth_date  DATE,
+    login_id    BINARY(16),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    created_by  VARCHAR(100),
+    updated_by  VARCHAR(100),
+    del_yn      VARCHAR(255),
+    deleted_at  DATETIME(6),
+    archived_at DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (user_id),
+    KEY idx_users_archive_login_id (login_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS tbl_login_info_archive (
+    login_id                BINARY(16)   NOT NULL,
+    email                   VARCHAR(100),
+    password                VARCHAR(255),
+    user_role               VARCHAR(20),
+    account_non_expired     BIT(1),
+    account_non_locked      BIT(1),
+    credentials_non_expired BIT(1),
+    enabled                 BIT(1),
+    created_at              DATETIME(6),
+    updated_at              DATETIME(6),
+    created_by              VARCHAR(100),
+    updated_by              VARCHAR(100),
+    del_yn                  VARCHAR(255),
+    deleted_at              DATETIME(6),
+    archived_at             DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (login_id),
+    KEY idx_login_info_archive_email (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,9 @@
+-- ===================================
+-- 조회 경로별 인덱스
+-- ===================================
+-- 로그인(email 조회)은 V1의 uk_login_info_email(ddl-auto DB는 Hibernate가 만든 UK_*)을 사용
+-- 확인: scripts/explain/explain-check.sh
+
+-- soft delete 정리 작업: WHERE del_yn = 'Y' AND deleted_at < ? (range scan, 대상 행만 읽음)
+CREATE INDEX idx_login_info_del_yn ON tbl_login_info (del_yn, deleted_at);
+CREATE INDEX idx_users_del_yn ON tbl_users (del_yn, deleted_at);
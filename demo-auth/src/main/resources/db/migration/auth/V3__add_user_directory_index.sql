@@ -0,0 +1,7 @@
+-- ===================================
+-- 관리자 사용자 목록 keyset 페이지 인덱스
+-- ===================================
+-- WHERE del_yn = 'N' AND (created_at, user_id) < (?, ?) ORDER BY created_at DESC, user_id DESC LIMIT ?
+-- 인덱스 역순 range scan으로 페이지 크기만큼만 읽음 (filesort 없음)
+-- 확인: scripts/explain/explain-check.sh
+CREATE INDEX idx_users_directory ON tbl_users (del_yn, created_at, user_id);
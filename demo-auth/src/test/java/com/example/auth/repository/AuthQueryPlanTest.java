@@ -0,0 +1,266 @@
+package com.example.auth.repository;
+
+import com.example.auth.dto.UserDirectoryItem;
+import com.example.auth.service.AuthServiceTestApplication;
+import com.example.auth.service.SecondLevelCacheInvalidator;
+import com.example.auth.service.UserDirectoryService;
+import com.example.common.dto.CursorPageResponse;
+import com.example.db.explain.ExplainCapturingDataSource;
+import com.example.db.explain.ExplainCapturingDataSource.ExplainedStatement;
+import com.example.db.explain.ExplainPlanChecker;
+import com.example.db.purge.PurgeProperties;
+import com.example.db.purge.SoftDeletePurgeJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 / 사용자 목록 / 로그인 이력 / 정리 쿼리의 실행 계획 확인 (MySQL 8, Flyway 마이그레이션 적용 후)
+ * 리포지토리 / 서비스 / 정리 작업을 실제로 호출하고 Hibernate 등이 생성한 SQL을 같은 파라미터로 EXPLAIN (ExplainCapturingDataSource)
+ * 인덱스 없이 테이블 전체를 읽는(type = ALL) 쿼리가 있으면 실패, Docker가 없으면 건너뜀
+ * 2차 캐시에서 응답하면 SQL이 실행되지 않으므로 2차 캐시는 끔
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "db.second-level-cache.enabled=false")
+@ContextConfiguration(classes = AuthServiceTestApplication.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserDirectoryService.class, ExplainCapturingDataSource.PostProcessor.class})
+class AuthQueryPlanTest {
+
+    private static final String EMAIL = "user-7@example.com";
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static ExplainPlanChecker checker;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private LoginInfoRepository loginInfoRepository;
+
+    @Autowired
+    private UserInfoRepository userInfoRepository;
+
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    // UserProfileCacheListener / SecondLevelCacheListener 의존성
+    @MockBean
+    private CacheManager cacheManager;
+
+    @MockBean
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    private ExplainCapturingDataSource explained;
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+    }
+
+    @BeforeAll
+    static void setUpData() {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration/auth")
+                .table("flyway_history_auth")
+                .load()
+                .migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword(), true));
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = 100000");
+
+        // 사용자 5,000명 (5%는 보관 기간이 지난 soft delete) + 로그인 이력 20,000건
+        jdbcTemplate.update("""
+                INSERT INTO tbl_login_info (login_id, email, password, user_role, account_non_expired,
+                                            account_non_locked, credentials_non_expired, enabled,
+                                            created_at, updated_at, del_yn, deleted_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000)
+                SELECT UUID_TO_BIN(UUID(), 1), CONCAT('user-', n, '@example.com'), 'hash', 'USER', 1, 1, 1, 1,
+                       NOW() - INTERVAL n MINUTE, NOW(), IF(n % 20 = 0, 'Y', 'N'),
+                       IF(n % 20 = 0, NOW() - INTERVAL 60 DAY, NULL)
+                  FROM seq
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO tbl_users (user_id, user_name, login_id, created_at, updated_at, del_yn, deleted_at)
+                SELECT UUID_TO_BIN(UUID(), 1), SUBSTRING_INDEX(email, '@', 1), login_id,
+                       created_at, updated_at, del_yn, deleted_at
+                  FROM tbl_login_info
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO tbl_login_event (email, event_type, client_ip, user_agent, occurred_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+                SELECT CONCAT('user-', n % 5000, '@example.com'), 'SUCCESS', '127.0.0.1', 'test',
+                       NOW() - INTERVAL n SECOND
+                  FROM seq
+                """);
+
+        checker = new ExplainPlanChecker(jdbcTemplate);
+        checker.analyze("tbl_login_info", "tbl_users", "tbl_login_event");
+    }
+
+    @BeforeEach
+    void setUp() {
+        explained = (ExplainCapturingDataSource) dataSource;
+        explained.clear();
+    }
+
+    /** LoginInfoRepository.findByEmail (natural id) / existsByEmail */
+    @Test
+    void loginInfoByEmail() {
+        loginInfoRepository.findByEmail(EMAIL);
+        loginInfoRepository.existsByEmail(EMAIL);
+
+        executed().forEach(AuthQueryPlanTest::assertNoFullScan);
+    }
+
+    /** UserInfoRepository.findCredentialByEmail */
+    @Test
+    void loginCredential() {
+        userInfoRepository.findCredentialByEmail(EMAIL);
+
+        executed().forEach(AuthQueryPlanTest::assertNoFullScan);
+    }
+
+    /** UserInfoRepository.findDirectoryPage (첫 페이지 / 두 번째 페이지) */
+    @Test
+    void userDirectory() {
+        directoryPages(null, null).forEach(AuthQueryPlanTest::assertNoFullScan);
+    }
+
+    /** UserInfoRepository.findDirectoryPageByEmailPrefix (이름 접두어 없이 / 함께, 첫 페이지 / 두 번째 페이지) */
+    @Test
+    void userDirectoryByEmailPrefix() {
+        for (String name : new String[]{null, "user-1"}) {
+            for (ExplainedStatement statement : directoryPages("user-12", name)) {
+                assertNoFullScan(statement);
+                assertDrivenBy(statement, "uk_login_info_email");
+            }
+        }
+    }
+
+    /** UserInfoRepository.findDirectoryPageByNamePrefix (첫 페이지 / 두 번째 페이지) */
+    @Test
+    void userDirectoryByNamePrefix() {
+        for (ExplainedStatement statement : directoryPages(null, "user-12")) {
+            assertNoFullScan(statement);
+            assertDrivenBy(statement, "idx_users_user_name");
+        }
+    }
+
+    /** 계정별 로그인 이력 (애플리케이션에 조회 코드가 없는 운영 조회용 SQL) */
+    @Test
+    void loginEventByEmail() {
+        String sql = """
+                SELECT event_type, client_ip, occurred_at FROM tbl_login_event
+                 WHERE email = 'user-7@example.com' ORDER BY occurred_at DESC LIMIT 50
+                """;
+        List<Map<String, Object>> plan = checker.explain(sql);
+
+        assertThat(ExplainPlanChecker.fullScans(plan))
+                .as("full table scan\n%s", ExplainPlanChecker.format(sql, plan))
+                .isEmpty();
+    }
+
+    /** SoftDeletePurgeJob batch 조회 (첫 batch / 다음 batch) */
+    @Test
+    void purgeUsers() {
+        PurgeProperties properties = new PurgeProperties();
+        properties.setInitialDelayMs(Long.MAX_VALUE);
+        properties.setBatchSize(100);
+        properties.setMaxBatchesPerRun(2);
+        properties.setPauseMs(0);
+        properties.setTables(List.of(table("tbl_users", "user_id"), table("tbl_login_info", "login_id")));
+        ExplainCapturingDataSource purgeDataSource = new ExplainCapturingDataSource(
+                new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+
+        try (SoftDeletePurgeJob job = new SoftDeletePurgeJob(purgeDataSource, properties,
+                beans.getBeanProvider(MeterRegistry.class), beans.getBeanProvider(EntityManagerFactory.class),
+                event -> { })) {
+            job.runOnce();
+        }
+
+        List<ExplainedStatement> batches = purgeDataSource.getStatements().stream()
+                .filter(statement -> statement.sql().contains("deleted_at < ?"))
+                .toList();
+        assertThat(batches).hasSize(4);
+        batches.forEach(AuthQueryPlanTest::assertNoFullScan);
+    }
+
+    /**
+     * 같은 검색 조건으로 첫 페이지와 (받은 cursor로) 두 번째 페이지 조회
+     */
+    private List<ExplainedStatement> directoryPages(String email, String name) {
+        explained.clear();
+        CursorPageResponse<UserDirectoryItem> first = userDirectoryService.getUsers(null, email, name, PAGE_SIZE);
+        assertThat(first.hasNext()).isTrue();
+        userDirectoryService.getUsers(first.nextCursor(), email, name, PAGE_SIZE);
+
+        List<ExplainedStatement> pages = executed();
+        assertThat(pages).hasSize(2);
+        return pages;
+    }
+
+    private List<ExplainedStatement> executed() {
+        List<ExplainedStatement> statements = explained.getStatements();
+        assertThat(statements).as("executed SELECT").isNotEmpty();
+        return statements;
+    }
+
+    private static PurgeProperties.Table table(String name, String idColumn) {
+        PurgeProperties.Table table = new PurgeProperties.Table();
+        table.setName(name);
+        table.setIdColumn(idColumn);
+        return table;
+    }
+
+    private static void assertDrivenBy(ExplainedStatement statement, String index) {
+        assertThat(statement.drivingKey())
+                .as("driving index\n%s", statement)
+                .isEqualTo(index);
+    }
+
+    private static void assertNoFullScan(ExplainedStatement statement) {
+        assertThat(statement.fullScans())
+                .as("full table scan\n%s", statement)
+                .isEmpty();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.auth.service;
+
+import com.example.db.config.JpaConfig;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * service slice 테스트용 설정
+ * AuthApplication은 auth/common/security 전체를 component scan하므로 slice 테스트(@DataJpaTest)에서는 이 설정을 사용
+ * (엔티티/리포지토리 scan과 2차 캐시 설정은 JpaConfig)
+ */
+@SpringBootConfiguration
+@Import(JpaConfig.class)
+public class AuthServiceTestApplication {
+}
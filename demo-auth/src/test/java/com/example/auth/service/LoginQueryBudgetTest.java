@@ -0,0 +1,132 @@
+package com.example.auth.service;
+
+import com.example.auth.dto.LoginRequest;
+import com.example.common.exception.BusinessException;
+import com.example.db.querycount.QueryBudgetAspect;
+import com.example.db.querycount.QueryCounter;
+import com.example.db.querycount.QueryCountingDataSourcePostProcessor;
+import com.example.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인이 요청 스레드에서 @QueryBudget(2) 이내로 실행되는지 확인 (초과 시 QueryBudgetExceededException)
+ * 해시 업그레이드 UPDATE / 로그인 이력은 별도 스레드에서 실행되므로 집계되지 않음
+ */
+@DataJpaTest(properties = {
+        "db.query-budget.enabled=true",
+        "db.query-budget.fail-on-exceed=true"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({AuthService.class, PasswordHashExecutor.class, QueryCountingDataSourcePostProcessor.class,
+        QueryBudgetAspect.class, LoginQueryBudgetTest.PasswordEncoderConfig.class})
+class LoginQueryBudgetTest {
+
+    private static final String PASSWORD = "password1!";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private LoginSessionService loginSessionService;
+
+    @MockBean
+    private LoginThrottleService loginThrottleService;
+
+    @MockBean
+    private LoginEventRecorder loginEventRecorder;
+
+    // UserProfileCacheListener / SecondLevelCacheListener 의존성
+    @MockBean
+    private CacheManager cacheManager;
+
+    @MockBean
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        UUID loginId = UUID.randomUUID();
+        email = "budget-" + loginId + "@example.com";
+        // 설정된 strength(5)보다 낮은 해시 → 로그인 성공 시 업그레이드
+        jdbcTemplate.update("""
+                INSERT INTO tbl_login_info (login_id, email, password, user_role, account_non_expired,
+                                            account_non_locked, credentials_non_expired, enabled,
+                                            created_at, updated_at, del_yn)
+                VALUES (?, ?, ?, 'USER', TRUE, TRUE, TRUE, TRUE, NOW(), NOW(), 'N')
+                """, toBytes(loginId), email, new BCryptPasswordEncoder(4).encode(PASSWORD));
+        jdbcTemplate.update("""
+                INSERT INTO tbl_users (user_id, user_name, login_id, created_at, updated_at, del_yn)
+                VALUES (?, 'budget', ?, NOW(), NOW(), 'N')
+                """, toBytes(UUID.randomUUID()), toBytes(loginId));
+    }
+
+    @Test
+    void loginStaysWithinQueryBudget() {
+        try (QueryCounter.Scope scope = QueryCounter.start("login")) {
+            authService.login(new LoginRequest(email, PASSWORD));
+
+            assertThat(scope.getCount()).isBetween(1, 2);
+        }
+    }
+
+    @Test
+    void failedLoginStaysWithinQueryBudget() {
+        try (QueryCounter.Scope scope = QueryCounter.start("failed login")) {
+            assertThatThrownBy(() -> authService.login(new LoginRequest(email, "wrong")))
+                    .isInstanceOf(BusinessException.class);
+            assertThatThrownBy(() -> authService.login(new LoginRequest("unknown@example.com", PASSWORD)))
+                    .isInstanceOf(BusinessException.class);
+
+            assertThat(scope.getCount()).isEqualTo(2);
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(5);
+        }
+    }
+}
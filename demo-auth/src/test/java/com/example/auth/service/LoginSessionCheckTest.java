@@ -0,0 +1,85 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.LoginSession;
+import com.example.auth.domain.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요청마다 호출되는 세션 확인이 near cache로 응답하고, Redis 장애 중에는 대기 중인 쓰기로 판단하는지 확인
+ * 스케줄러 작업(만료 연장 / 재전송)은 요청 guard가 아닌 background guard를 거치는지 확인
+ */
+class LoginSessionCheckTest {
+
+    private static final String EMAIL = "check@example.com";
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final LoginSessionNearCache nearCache = mock(LoginSessionNearCache.class);
+    private final RedisGuard redisGuard = mock(RedisGuard.class);
+    private final RedisGuard backgroundRedisGuard = mock(RedisGuard.class);
+    private final LoginSessionService loginSessionService =
+            new LoginSessionService(stringRedisTemplate, nearCache, redisGuard, backgroundRedisGuard);
+
+    @Test
+    void cachedSessionIsAnsweredLocally() {
+        LoginSession session = LoginSession.create(EMAIL, "user-1", UserRole.USER, "refresh");
+        when(nearCache.get(EMAIL)).thenReturn(session);
+
+        assertThat(loginSessionService.hasActiveSession(EMAIL, session.loginTime())).isTrue();
+        // 이전 로그인에서 발급된 토큰
+        assertThat(loginSessionService.hasActiveSession(EMAIL, session.loginTime() - 10_000)).isFalse();
+        verifyNoInteractions(redisGuard, stringRedisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisUnavailableFallsBackToPendingWrites() {
+        when(redisGuard.execute(anyString(), any(Supplier.class), any(Supplier.class)))
+                .thenAnswer(invocation -> invocation.getArgument(2, Supplier.class).get());
+        doAnswer(invocation -> {
+            invocation.getArgument(2, Runnable.class).run();
+            return null;
+        }).when(redisGuard).execute(anyString(), any(Runnable.class), any(Runnable.class));
+        long issuedAt = System.currentTimeMillis();
+
+        // 대기 중인 쓰기가 없으면 토큰 서명만으로 허용
+        assertThat(loginSessionService.hasActiveSession(EMAIL, issuedAt)).isTrue();
+
+        // 장애 중 폐기된 세션은 거절
+        loginSessionService.revokeSession(EMAIL);
+        assertThat(loginSessionService.hasActiveSession(EMAIL, issuedAt)).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void scheduledWorkUsesBackgroundGuard() {
+        // 장애 중 폐기 → 재전송 대기열
+        doAnswer(invocation -> {
+            invocation.getArgument(2, Runnable.class).run();
+            return null;
+        }).when(redisGuard).execute(anyString(), any(Runnable.class), any(Runnable.class));
+        loginSessionService.revokeSession(EMAIL);
+        when(redisGuard.isCallPermitted()).thenReturn(false);
+        when(backgroundRedisGuard.isCallPermitted()).thenReturn(true);
+        when(backgroundRedisGuard.execute(anyString(), any(Supplier.class), any(Supplier.class))).thenReturn(true);
+
+        loginSessionService.touchSessions(List.of(EMAIL));
+        loginSessionService.replayPendingWrites();
+
+        verify(backgroundRedisGuard).execute(eq("touchSessions"), any(Supplier.class));
+        verify(backgroundRedisGuard).execute(eq("replayPendingRevocation"), any(Supplier.class), any(Supplier.class));
+    }
+}
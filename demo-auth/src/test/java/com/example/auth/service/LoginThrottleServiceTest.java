@@ -0,0 +1,104 @@
+package com.example.auth.service;
+
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그인 경로는 로컬 카운터만 사용하고, Redis 반영/합계 조회는 백그라운드 동기화에서만 일어나는지 확인
+ */
+class LoginThrottleServiceTest {
+
+    private static final String EMAIL = "throttle@example.com";
+    private static final String IP = "10.0.0.1";
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final RedisGuard backgroundRedisGuard = mock(RedisGuard.class);
+
+    private LoginThrottleService loginThrottleService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        loginThrottleService = new LoginThrottleService(stringRedisTemplate, backgroundRedisGuard);
+        ReflectionTestUtils.setField(loginThrottleService, "windowSeconds", 300L);
+        ReflectionTestUtils.setField(loginThrottleService, "maxFailuresPerEmail", 5);
+        ReflectionTestUtils.setField(loginThrottleService, "maxFailuresPerIp", 50);
+        ReflectionTestUtils.setField(loginThrottleService, "refreshIntervalMillis", 0L);
+        ReflectionTestUtils.setField(loginThrottleService, "maxTrackedKeys", 1000L);
+        loginThrottleService.init();
+
+        when(backgroundRedisGuard.execute(anyString(), any(Supplier.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1, Supplier.class).get());
+    }
+
+    @Test
+    void requestPathUsesLocalCountersOnly() {
+        for (int i = 0; i < 5; i++) {
+            loginThrottleService.checkAllowed(EMAIL, IP);
+            loginThrottleService.recordFailure(EMAIL, IP);
+        }
+
+        assertThrottled();
+        loginThrottleService.recordSuccess("other@example.com");
+        verifyNoInteractions(stringRedisTemplate, backgroundRedisGuard);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void syncPushesDeltasInOneCallAndAppliesTotalsFromAllInstances() {
+        loginThrottleService.recordFailure(EMAIL, IP);
+        loginThrottleService.recordFailure(EMAIL, IP);
+        // 다른 인스턴스의 실패 3회 포함
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(5L, 0L, 5L, 0L));
+
+        loginThrottleService.syncWithRedis();
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(), args.capture());
+        assertThat(args.getValue()).containsExactly("600000", "2", "2");
+        assertThrottled();
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void checkedKeyIsRefreshedFromRedisInBackground() {
+        assertThatCode(() -> loginThrottleService.checkAllowed(EMAIL, null)).doesNotThrowAnyException();
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(5L, 0L));
+
+        loginThrottleService.syncWithRedis();
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(), args.capture());
+        assertThat(args.getValue()).containsExactly("600000", "0");
+        assertThrottled();
+    }
+
+    private void assertThrottled() {
+        assertThatThrownBy(() -> loginThrottleService.checkAllowed(EMAIL, IP))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+}
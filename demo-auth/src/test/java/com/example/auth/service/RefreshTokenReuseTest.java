@@ -0,0 +1,180 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.LoginSession;
+import com.example.auth.domain.UserRole;
+import com.example.auth.dto.LoginCredential;
+import com.example.auth.dto.TokenResponse;
+import com.example.auth.repository.LoginInfoRepository;
+import com.example.auth.repository.UserInfoRepository;
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+import com.example.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 교체된 refresh token을 다시 사용하면 세션이 폐기되고, 같은 토큰을 반복해도 DB 경로로 세션을 다시 만들지 않는지 확인
+ */
+class RefreshTokenReuseTest {
+
+    private static final String EMAIL = "reuse@example.com";
+
+    private final InMemoryLoginSessionService loginSessionService = new InMemoryLoginSessionService();
+    private final UserInfoRepository userInfoRepository = mock(UserInfoRepository.class);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret",
+                "test-secret-key-minimum-256-bits-for-hs512-algorithm-test-secret-key-value");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenValidity", 60_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidity", 600_000L);
+        jwtTokenProvider.init();
+
+        authService = new AuthService(userInfoRepository, mock(LoginInfoRepository.class), mock(PasswordEncoder.class),
+                mock(PasswordHashExecutor.class), jwtTokenProvider, loginSessionService,
+                mock(LoginThrottleService.class), mock(LoginEventRecorder.class));
+
+        when(userInfoRepository.findCredentialByEmail(EMAIL))
+                .thenReturn(Optional.of(new LoginCredential(UUID.randomUUID(), EMAIL, "hash", UserRole.USER)));
+    }
+
+    @Test
+    void replayingRotatedTokenRevokesSessionEveryTime() {
+        String issued = login();
+        TokenResponse rotated = authService.refreshToken(issued);
+
+        // 첫 재사용: 세션 폐기
+        assertInvalidToken(issued);
+        assertThat(loginSessionService.loadLoginSession(EMAIL)).isNull();
+
+        // 두 번째 재사용: 세션이 없어도 DB 경로로 새 세션을 만들지 않음
+        assertInvalidToken(issued);
+        assertThat(loginSessionService.loadLoginSession(EMAIL)).isNull();
+
+        // 폐기 전에 정상 교체된 토큰도 더 이상 사용할 수 없음
+        assertInvalidToken(rotated.getRefreshToken());
+        verify(userInfoRepository, never()).findCredentialByEmail(EMAIL);
+    }
+
+    @Test
+    void tokenFromPreviousLoginDoesNotTakeOverCurrentSession() throws Exception {
+        String previous = login();
+        // JWT iat는 초 단위, 1초 이내는 같은 로그인으로 봄
+        Thread.sleep(2_100);
+        String current = login();
+
+        assertInvalidToken(previous);
+        assertThat(loginSessionService.loadLoginSession(EMAIL).matchesRefreshToken(current)).isTrue();
+        verify(userInfoRepository, never()).findCredentialByEmail(EMAIL);
+    }
+
+    @Test
+    void tokenIssuedJustBeforeSessionWasSavedIsAccepted() {
+        String refreshToken = jwtTokenProvider.createRefreshToken(EMAIL);
+        long issuedAt = jwtTokenProvider.getIssuedAtFromToken(refreshToken).getTime();
+        // 토큰 발급과 세션 저장 사이에 초가 바뀐 경우
+        loginSessionService.put(new LoginSession(EMAIL, UUID.randomUUID().toString(), UserRole.USER,
+                LoginSession.hashToken(refreshToken), issuedAt + 1_000));
+
+        TokenResponse refreshed = authService.refreshToken(refreshToken);
+
+        assertThat(loginSessionService.loadLoginSession(EMAIL).matchesRefreshToken(refreshed.getRefreshToken())).isTrue();
+    }
+
+    @Test
+    void missingSessionIsRebuiltFromDatabase() {
+        String issued = login();
+        loginSessionService.expire(EMAIL);
+
+        TokenResponse refreshed = authService.refreshToken(issued);
+
+        assertThat(loginSessionService.loadLoginSession(EMAIL).matchesRefreshToken(refreshed.getRefreshToken())).isTrue();
+        verify(userInfoRepository).findCredentialByEmail(EMAIL);
+    }
+
+    private String login() {
+        String refreshToken = jwtTokenProvider.createRefreshToken(EMAIL);
+        loginSessionService.saveLoginSession(EMAIL, UUID.randomUUID().toString(), UserRole.USER, refreshToken);
+        return refreshToken;
+    }
+
+    private void assertInvalidToken(String refreshToken) {
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    /**
+     * Redis 대신 메모리에 세션 / 폐기 시각을 보관 (Lua 스크립트와 같은 규칙)
+     */
+    private static class InMemoryLoginSessionService extends LoginSessionService {
+
+        private final Map<String, LoginSession> sessions = new ConcurrentHashMap<>();
+        private final Map<String, Long> revocations = new ConcurrentHashMap<>();
+
+        InMemoryLoginSessionService() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public void saveLoginSession(String email, String userId, UserRole userRole, String refreshToken) {
+            sessions.put(email, LoginSession.create(email, userId, userRole, refreshToken));
+        }
+
+        @Override
+        public LoginSession loadLoginSession(String email) {
+            return sessions.get(email);
+        }
+
+        @Override
+        public RotationResult rotateRefreshToken(String email, String presentedToken, String newRefreshToken) {
+            LoginSession current = sessions.get(email);
+            if (current == null) {
+                return RotationResult.MISSING;
+            }
+            if (!current.matchesRefreshToken(presentedToken)) {
+                return RotationResult.REUSED;
+            }
+            sessions.put(email, new LoginSession(email, current.userId(), current.userRole(),
+                    LoginSession.hashToken(newRefreshToken), current.loginTime()));
+            return RotationResult.ROTATED;
+        }
+
+        @Override
+        public void revokeSession(String email) {
+            sessions.remove(email);
+            revocations.merge(email, System.currentTimeMillis(), Math::max);
+        }
+
+        @Override
+        public Long getRevokedAt(String email) {
+            return revocations.get(email);
+        }
+
+        void put(LoginSession session) {
+            sessions.put(session.email(), session);
+        }
+
+        void expire(String email) {
+            sessions.remove(email);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.auth.service;
+
+import com.example.auth.config.CacheConfig;
+import com.example.auth.domain.LoginInfo;
+import com.example.auth.domain.SecondLevelCacheListener;
+import com.example.auth.repository.LoginInfoRepository;
+import com.example.common.enums.YesNo;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * LoginInfo 2차 캐시가 동시 변경 / 다른 인스턴스의 변경 이후 오래된 값을 반환하지 않는지 확인
+ * 다른 인스턴스의 변경 메시지로 userProfile 캐시도 함께 제거되는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SecondLevelCacheInvalidator.class, SecondLevelCacheListener.class})
+class SecondLevelCacheInvalidationTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private LoginInfoRepository loginInfoRepository;
+
+    @Autowired
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // UserProfileCacheListener / SecondLevelCacheInvalidator 의존성
+    @MockBean
+    private CacheManager cacheManager;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    private RedisMessageListenerContainer listenerContainer;
+
+    @MockBean
+    private RedisGuard redisGuard;
+
+    private UUID loginId;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return null;
+        }).when(redisGuard).execute(anyString(), any(Runnable.class), any(Runnable.class));
+
+        loginId = UUID.randomUUID();
+        email = "l2-" + loginId + "@example.com";
+        jdbcTemplate.update("""
+                INSERT INTO tbl_login_info (login_id, email, password, user_role, account_non_expired,
+                                            account_non_locked, credentials_non_expired, enabled,
+                                            created_at, updated_at, del_yn)
+                VALUES (?, ?, 'initial', 'USER', TRUE, TRUE, TRUE, TRUE, NOW(), NOW(), 'N')
+                """, toBytes(loginId), email);
+    }
+
+    @Test
+    void concurrentUpdatesLeaveCacheConsistentWithDatabase() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                int currentRound = round;
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicBoolean writing = new AtomicBoolean(true);
+                List<Future<?>> writers = new ArrayList<>();
+                List<Future<?>> readers = new ArrayList<>();
+
+                for (int i = 0; i < WRITERS; i++) {
+                    int writer = i;
+                    writers.add(executor.submit(() -> {
+                        start.await();
+                        if (writer % 2 == 0) {
+                            // 엔티티 변경 (READ_WRITE soft lock)
+                            transactionTemplate.executeWithoutResult(status -> {
+                                LoginInfo loginInfo = loginInfoRepository.findById(loginId).orElseThrow();
+                                if (writer % 4 == 0) {
+                                    loginInfo.delete();
+                                } else {
+                                    loginInfo.restore();
+                                }
+                            });
+                        } else {
+                            // 비밀번호 변경 (natural id 조회 후 엔티티 변경)
+                            loginInfoRepository.updatePassword(email, "hash-" + currentRound + "-" + writer);
+                        }
+                        return null;
+                    }));
+                }
+                for (int i = 0; i < READERS; i++) {
+                    readers.add(executor.submit(() -> {
+                        start.await();
+                        while (writing.get()) {
+                            loginInfoRepository.findByEmail(email).orElseThrow();
+                        }
+                        return null;
+                    }));
+                }
+
+                start.countDown();
+                for (Future<?> writer : writers) {
+                    writer.get(30, TimeUnit.SECONDS);
+                }
+                writing.set(false);
+                for (Future<?> reader : readers) {
+                    reader.get(30, TimeUnit.SECONDS);
+                }
+
+                // 동시 변경으로 soft lock이 남은 항목은 DB에서 읽으므로, 캐시에 있든 없든 DB 값과 같아야 함
+                LoginInfo cached = loginInfoRepository.findByEmail(email).orElseThrow();
+                assertThat(cached.getPassword()).isEqualTo(storedPassword());
+                assertThat(cached.getDelYn()).isEqualTo(YesNo.fromValue(storedDelYn()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void changeFromOtherInstanceIsEvictedByInvalidationMessage() {
+        assertThat(loginInfoRepository.findByEmail(email).orElseThrow().getPassword()).isEqualTo("initial");
+        assertThat(entityManagerFactory.getCache().contains(LoginInfo.class, loginId)).isTrue();
+
+        // 다른 인스턴스의 커밋 (이 인스턴스의 Hibernate를 거치지 않음)
+        jdbcTemplate.update("UPDATE tbl_login_info SET password = 'changed', enabled = FALSE WHERE email = ?", email);
+        assertThat(loginInfoRepository.findByEmail(email).orElseThrow().getPassword()).isEqualTo("initial");
+
+        secondLevelCacheInvalidator.onMessage(invalidation("other-instance|LoginInfo|" + loginId), null);
+
+        LoginInfo reloaded = loginInfoRepository.findByEmail(email).orElseThrow();
+        assertThat(reloaded.getPassword()).isEqualTo("changed");
+        assertThat(reloaded.isEnabled()).isFalse();
+    }
+
+    @Test
+    void userProfileIsEvictedByInvalidationMessage() {
+        Cache userProfiles = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.USER_PROFILE_CACHE)).thenReturn(userProfiles);
+
+        secondLevelCacheInvalidator.onMessage(invalidation("other-instance|LoginInfo|" + loginId + "|" + email), null);
+
+        verify(userProfiles).evict(email);
+    }
+
+    @Test
+    void committedChangeIsPublishedAndRolledBackChangeIsNot() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            loginInfoRepository.findById(loginId).orElseThrow().delete();
+            status.setRollbackOnly();
+        });
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        transactionTemplate.executeWithoutResult(status -> loginInfoRepository.findById(loginId).orElseThrow().delete());
+        verify(stringRedisTemplate).convertAndSend(
+                eq(SecondLevelCacheInvalidator.INVALIDATION_CHANNEL), endsWith("|LoginInfo|" + loginId + "|" + email));
+    }
+
+    private String storedPassword() {
+        return jdbcTemplate.queryForObject("SELECT password FROM tbl_login_info WHERE email = ?", String.class, email);
+    }
+
+    private String storedDelYn() {
+        return jdbcTemplate.queryForObject("SELECT del_yn FROM tbl_login_info WHERE email = ?", String.class, email);
+    }
+
+    private static DefaultMessage invalidation(String body) {
+        return new DefaultMessage(SecondLevelCacheInvalidator.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
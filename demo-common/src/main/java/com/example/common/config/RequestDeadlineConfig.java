@@ -0,0 +1,13 @@
+package com.example.common.config;
+
+import com.example.common.deadline.RequestDeadlineProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 처리 기한 설정 (RequestDeadlineFilter)
+ */
+@Configuration
+@EnableConfigurationProperties(RequestDeadlineProperties.class)
+public class RequestDeadlineConfig {
+}
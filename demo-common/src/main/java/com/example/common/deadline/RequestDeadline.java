@@ -0,0 +1,82 @@
+package com.example.common.deadline;
+
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 요청 스레드의 처리 기한(deadline)
+ *
+ * RequestDeadlineFilter가 엔드포인트별 시간 예산으로 설정하며,
+ * JDBC statement(DeadlineDataSource)와 Redis 호출(RedisGuard)은 남은 시간만큼만 대기합니다.
+ * 기한이 없는 스레드(백그라운드 작업 등)에서는 제한 없이 동작합니다.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 기한 설정, 이미 더 이른 기한이 있으면 그대로 유지 (중첩 시 짧은 쪽 적용)
+     *
+     * @return close 시 이전 기한으로 복원
+     */
+    public static Scope start(long timeoutMillis) {
+        Long previous = DEADLINE_NANOS.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        if (previous == null || deadline - previous < 0) {
+            DEADLINE_NANOS.set(deadline);
+        }
+        return new Scope(previous);
+    }
+
+    public static boolean isActive() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    /**
+     * @return 남은 시간(ms), 이미 지났으면 0 이하, 기한이 없으면 Long.MAX_VALUE
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    public static boolean isExpired() {
+        return remainingMillis() <= 0;
+    }
+
+    /**
+     * 기한이 지났으면 DEADLINE_EXCEEDED(504) 예외 발생
+     */
+    public static void check() {
+        if (isExpired()) {
+            throw new BusinessException(ErrorCode.DEADLINE_EXCEEDED);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Long previous;
+
+        private Scope(Long previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.common.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 시작 시 엔드포인트별 처리 기한 설정
+ * 인증/보안 필터 처리 시간도 예산에 포함되도록 가장 바깥에서 실행
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RequestDeadlineProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long timeoutMillis = timeoutOf(request.getRequestURI());
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(timeoutMillis)) {
+            filterChain.doFilter(request, response);
+            if (RequestDeadline.isExpired()) {
+                log.debug("Request finished after its deadline ({} ms), uri: {}", timeoutMillis, request.getRequestURI());
+            }
+        }
+    }
+
+    private long timeoutOf(String requestURI) {
+        for (RequestDeadlineProperties.Endpoint endpoint : properties.getEndpoints()) {
+            if (pathMatcher.match(endpoint.getPattern(), requestURI)) {
+                return endpoint.getTimeoutMs();
+            }
+        }
+        return properties.getDefaultTimeoutMs();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.common.deadline;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 처리 기한 설정 (request.deadline.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties("request.deadline")
+public class RequestDeadlineProperties {
+
+    private boolean enabled = true;
+
+    /** endpoints에 해당하지 않는 요청의 기한 */
+    private long defaultTimeoutMs = 10_000;
+
+    /** 경로 패턴(Ant)별 기한, 위에서부터 처음 일치하는 항목 적용 */
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        private String pattern;
+
+        private long timeoutMs;
+    }
+}
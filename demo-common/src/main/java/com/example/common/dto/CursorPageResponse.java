@@ -0,0 +1,13 @@
+package com.example.common.dto;
+
+import java.util.List;
+
+/**
+ * keyset(cursor) 페이지 응답
+ * 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 전달하여 조회 (hasNext가 false이면 nextCursor는 null)
+ */
+public record CursorPageResponse<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext) {
+}
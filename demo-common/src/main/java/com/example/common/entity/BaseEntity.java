@@ -12,12 +12,17 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.example.common.enums.YesNo;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Getter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
-public abstract class BaseEntity {
+public abstract class BaseEntity implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
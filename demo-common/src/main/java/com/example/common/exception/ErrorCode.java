@@ -13,13 +13,17 @@ public enum ErrorCode {
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "C003", "Entity not found"),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C004", "Invalid type value"),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "C005", "Access is denied"),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "C006", "Service temporarily unavailable"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "C007", "Resource was modified by another request"),
+    DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "C008", "Request deadline exceeded"),
 
     // Auth
     INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "A001", "Invalid credentials"),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "A002", "Invalid token"),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "A003", "Expired token"),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A004", "Unauthorized"),
-    DUPLICATE_EMAIL(HttpStatus.CONFLICT, "A005", "Email already exists");
+    DUPLICATE_EMAIL(HttpStatus.CONFLICT, "A005", "Email already exists"),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "A006", "Too many login attempts");
 
     private final HttpStatus status;
     private final String code;
@@ -2,7 +2,11 @@ package com.example.common.exception;
 
 import com.example.common.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -10,6 +14,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.sql.SQLTimeoutException;
+
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -23,6 +29,39 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(errorCode.getMessage()));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        // 재시도 후에도 남은 @Version 충돌, 클라이언트가 다시 조회 후 수정하도록 409 반환
+        log.warn("OptimisticLockingFailureException: {}", e.getMessage());
+        ErrorCode errorCode = ErrorCode.CONCURRENT_MODIFICATION;
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ApiResponse.error(errorCode.getMessage()));
+    }
+
+    @ExceptionHandler(QueryTimeoutException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleQueryTimeoutException(QueryTimeoutException e) {
+        // 요청 기한(RequestDeadline)이 JDBC query timeout으로 적용되어 취소된 경우 포함
+        log.warn("QueryTimeoutException: {}", e.getMessage());
+        ErrorCode errorCode = ErrorCode.DEADLINE_EXCEEDED;
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ApiResponse.error(errorCode.getMessage()));
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    protected ResponseEntity<ApiResponse<Void>> handleConnectionFailure(Exception e) {
+        // 기한이 지난 요청의 커넥션 획득 거부(DeadlineDataSource, SQLTimeoutException)는 트랜잭션 시작 실패로 감싸지므로 여기서 504로 변환
+        if (!hasCause(e, SQLTimeoutException.class)) {
+            return handleException(e);
+        }
+        log.warn("Connection not acquired, request deadline exceeded: {}", e.getMessage());
+        ErrorCode errorCode = ErrorCode.DEADLINE_EXCEEDED;
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ApiResponse.error(errorCode.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<ApiResponse<Void>> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
         log.error("MethodArgumentNotValidException", e);
@@ -62,4 +101,13 @@ public class GlobalExceptionHandler {
                 .internalServerError()
                 .body(ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR.getMessage()));
     }
+
+    private static boolean hasCause(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
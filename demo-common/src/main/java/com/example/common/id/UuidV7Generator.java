@@ -0,0 +1,55 @@
+package com.example.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUID version 7 (RFC 9562) 생성기
+ *
+ * 상위 48bit가 Unix epoch milliseconds 이므로 BINARY(16)로 저장하면 값이 시간 순서대로 증가하여
+ * InnoDB clustered index의 끝에 추가됩니다 (v4처럼 임의 위치에 끼워 넣지 않아 page split이 줄어듦).
+ * 같은 millisecond 안에서는 rand_a(12bit)를 순번으로 사용하여 한 인스턴스 안에서 단조 증가를 보장합니다.
+ * 기존 v4 값과 같은 UUID 타입/컬럼을 그대로 사용합니다.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int SEQUENCE_BITS = 12;
+
+    /** (timestamp << 12) | sequence */
+    private static final AtomicLong LAST_TIME_AND_SEQUENCE = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    /**
+     * JPA 외부(JDBC batch 등)에서 식별자가 필요할 때 사용
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        // 같은 ms(또는 시계가 뒤로 간 경우)에는 직전 값 + 1, 순번이 넘치면 다음 ms로 넘어감
+        long timeAndSequence = LAST_TIME_AND_SEQUENCE.updateAndGet(last -> Math.max(now, last + 1));
+
+        long timestamp = timeAndSequence >>> SEQUENCE_BITS;
+        long sequence = timeAndSequence & ((1L << SEQUENCE_BITS) - 1);
+
+        long mostSigBits = (timestamp << 16) | (0x7L << 12) | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 현재 HTTP 요청 정보를 가져오는 유틸리티 클래스
+ */
+public class RequestUtil {
+
+    private RequestUtil() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 현재 요청의 클라이언트 IP
+     * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 신뢰할 수 있는 프록시의
+     * X-Forwarded-For 값이 remoteAddr에 반영되어야 함 (헤더를 직접 읽으면 위조 가능)
+     *
+     * @return 클라이언트 IP, 요청 컨텍스트가 없는 경우 null
+     */
+    public static String getClientIp() {
+        HttpServletRequest request = getCurrentRequest();
+        return request != null ? request.getRemoteAddr() : null;
+    }
+
+    /**
+     * 현재 요청의 User-Agent
+     *
+     * @return User-Agent 헤더 값, 요청 컨텍스트가 없는 경우 null
+     */
+    public static String getUserAgent() {
+        HttpServletRequest request = getCurrentRequest();
+        return request != null ? request.getHeader("User-Agent") : null;
+    }
+
+    private static HttpServletRequest getCurrentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest();
+        }
+        return null;
+    }
+}
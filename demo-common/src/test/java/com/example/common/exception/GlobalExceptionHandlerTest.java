@@ -0,0 +1,47 @@
+package com.example.common.exception;
+
+import com.example.common.dto.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 획득 실패 중 요청 기한 초과만 504로 변환되는지 확인
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void expiredDeadlineAtTransactionStartIsGatewayTimeout() {
+        CannotCreateTransactionException e = new CannotCreateTransactionException("Could not open JPA EntityManager",
+                new SQLTimeoutException("Request deadline exceeded before connection acquisition"));
+
+        ResponseEntity<ApiResponse<Void>> response = handler.handleConnectionFailure(e);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    @Test
+    void expiredDeadlineOutsideTransactionIsGatewayTimeout() {
+        CannotGetJdbcConnectionException e = new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection",
+                new SQLTimeoutException("Request deadline exceeded before connection acquisition"));
+
+        assertThat(handler.handleConnectionFailure(e).getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    @Test
+    void poolTimeoutIsStillInternalServerError() {
+        CannotCreateTransactionException e = new CannotCreateTransactionException("Could not open JPA EntityManager",
+                new SQLTransientConnectionException("HikariPool-1 - Connection is not available"));
+
+        assertThat(handler.handleConnectionFailure(e).getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.db.config;
 
-import com.zaxxer.hikari.HikariDataSource;
+import com.example.db.deadline.DeadlineHikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -19,12 +20,16 @@ public class DataSourceConfig {
         return new DataSourceProperties();
     }
 
+    /**
+     * 단일 DataSource (replica 미사용 시)
+     */
     @Bean
     @Primary
+    @ConditionalOnProperty(name = "db.replica.enabled", havingValue = "false", matchIfMissing = true)
     @ConfigurationProperties("spring.datasource.hikari")
     public DataSource dataSource(DataSourceProperties properties) {
         return properties.initializeDataSourceBuilder()
-                .type(HikariDataSource.class)
+                .type(DeadlineHikariDataSource.class)
                 .build();
     }
 }
@@ -0,0 +1,63 @@
+package com.example.db.config;
+
+import com.example.db.metrics.DbMetricsProperties;
+import com.example.db.metrics.HikariPoolMeterBinder;
+import com.example.db.metrics.MeteredStatementInspector;
+import com.example.db.metrics.MeteredStatistics;
+import com.example.db.metrics.MyBatisMetricsInterceptor;
+import com.example.db.metrics.SlowQueryLogger;
+import com.example.db.metrics.StatementMetrics;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 풀 / SQL 실행 메트릭 (db.metrics.enabled=true, 기본값)
+ * MeterRegistry는 각 애플리케이션의 actuator 설정에서 제공됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.metrics.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(DbMetricsProperties.class)
+public class DbMetricsConfig {
+
+    @Bean
+    public StatementMetrics statementMetrics(DbMetricsProperties properties) {
+        return new StatementMetrics(properties);
+    }
+
+    @Bean
+    public SlowQueryLogger slowQueryLogger(DbMetricsProperties properties) {
+        return new SlowQueryLogger(properties);
+    }
+
+    @Bean
+    public HikariPoolMeterBinder hikariPoolMeterBinder(ObjectProvider<DataSource> dataSources) {
+        return new HikariPoolMeterBinder(dataSources);
+    }
+
+    /**
+     * MyBatisConfig에서 plugin으로 등록
+     */
+    @Bean
+    public MyBatisMetricsInterceptor myBatisMetricsInterceptor(StatementMetrics statementMetrics,
+                                                               SlowQueryLogger slowQueryLogger) {
+        return new MyBatisMetricsInterceptor(statementMetrics, slowQueryLogger);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer metricsHibernatePropertiesCustomizer(StatementMetrics statementMetrics,
+                                                                              SlowQueryLogger slowQueryLogger) {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.STATS_BUILDER, MeteredStatistics.factory(statementMetrics, slowQueryLogger));
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new MeteredStatementInspector(statementMetrics));
+            properties.put(AvailableSettings.LOG_SLOW_QUERY, Math.max(slowQueryLogger.getThresholdMillis(), 0));
+        };
+    }
+}
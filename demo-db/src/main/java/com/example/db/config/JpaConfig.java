@@ -1,6 +1,11 @@
 package com.example.db.config;
 
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -10,4 +15,30 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EntityScan(basePackages = "com.example")
 @EnableJpaRepositories(basePackages = "com.example")
 public class JpaConfig {
+
+    @Value("${db.second-level-cache.enabled:true}")
+    private boolean secondLevelCacheEnabled;
+
+    /** 각 애플리케이션 classpath의 Ehcache 설정 (region별 heap 크기 / TTL) */
+    @Value("${db.second-level-cache.config:ehcache.xml}")
+    private String secondLevelCacheConfig;
+
+    /**
+     * Hibernate 2차 캐시 (JCache + Ehcache 3)
+     * {@code @Cache}가 지정된 엔티티만 캐시되며, 설정 파일에 없는 region은 기본 template으로 생성(경고 로그)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, secondLevelCacheEnabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            if (!secondLevelCacheEnabled) {
+                return;
+            }
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put("hibernate.javax.cache.provider", EhcacheCachingProvider.class.getName());
+            properties.put("hibernate.javax.cache.uri", secondLevelCacheConfig);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+        };
+    }
 }
@@ -1,10 +1,13 @@
 package com.example.db.config;
 
+import com.example.db.mybatis.YesNoTypeHandler;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,7 +24,8 @@ import javax.sql.DataSource;
 public class MyBatisConfig {
 
     @Bean
-    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+    public SqlSessionFactory sqlSessionFactory(DataSource dataSource,
+                                               ObjectProvider<Interceptor> interceptors) throws Exception {
         SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
         sessionFactory.setDataSource(dataSource);
 
@@ -39,6 +43,12 @@ public class MyBatisConfig {
         // Type Aliases 패키지 설정
         sessionFactory.setTypeAliasesPackage("com.example");
 
+        // 공통 enum 변환 (Y/N 컬럼)
+        sessionFactory.setTypeHandlers(new YesNoTypeHandler());
+
+        // Plugin 설정 (메트릭 등)
+        sessionFactory.setPlugins(interceptors.orderedStream().toArray(Interceptor[]::new));
+
         return sessionFactory.getObject();
     }
 
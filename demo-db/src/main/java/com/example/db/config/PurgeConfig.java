@@ -0,0 +1,32 @@
+package com.example.db.config;
+
+import com.example.db.purge.PurgeProperties;
+import com.example.db.purge.SoftDeletePurgeJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * soft delete 행 정리 작업 (db.purge.enabled=true)
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.purge.enabled", havingValue = "true")
+@EnableConfigurationProperties(PurgeProperties.class)
+public class PurgeConfig {
+
+    @Bean
+    public SoftDeletePurgeJob softDeletePurgeJob(DataSource dataSource,
+                                                 PurgeProperties properties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                                 ObjectProvider<EntityManagerFactory> entityManagerFactory,
+                                                 ApplicationEventPublisher eventPublisher) {
+        return new SoftDeletePurgeJob(dataSource, properties, meterRegistry, entityManagerFactory, eventPublisher);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.db.config;
+
+import com.example.db.deadline.DeadlineHikariDataSource;
+import com.example.db.routing.ReadWriteRoutingDataSource;
+import com.example.db.routing.ReplicaLagMonitor;
+import com.example.db.routing.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * primary + replica DataSource 구성 (db.replica.enabled=true)
+ * readOnly 트랜잭션은 replica, 나머지는 primary 커넥션 풀을 사용합니다.
+ * replica 풀도 spring.datasource.hikari.* 공통 설정(idle-timeout, max-lifetime, connection-timeout 등)을 따르고
+ * 접속 정보 / 크기만 replica 설정으로 덮어씁니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(DeadlineHikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                        DataSourceProperties properties,
+                                                        ReplicaProperties replicaProperties,
+                                                        Environment environment) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getInstances().size(); i++) {
+            replicas.add(createReplica(i, replicaProperties.getInstances().get(i), properties, environment));
+        }
+
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(
+                replicas, replicaProperties.getMaxLagSeconds(), replicaProperties.getHealthCheckIntervalMs());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, lagMonitor);
+    }
+
+    /**
+     * 실제 커넥션 획득을 첫 SQL 실행 시점으로 미뤄 readOnly 여부로 라우팅되도록 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource createReplica(int index, ReplicaProperties.Instance instance,
+                                                  DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = new DeadlineHikariDataSource();
+        // idle-timeout, max-lifetime 등 공통 설정
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(instance.getUrl());
+        dataSource.setUsername(instance.getUsername() != null ? instance.getUsername() : properties.determineUsername());
+        dataSource.setPassword(instance.getPassword() != null ? instance.getPassword() : properties.determinePassword());
+        dataSource.setMaximumPoolSize(instance.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
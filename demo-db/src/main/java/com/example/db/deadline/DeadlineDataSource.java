@@ -0,0 +1,136 @@
+package com.example.db.deadline;
+
+import com.example.common.deadline.RequestDeadline;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 요청 기한(RequestDeadline)의 남은 시간을 JDBC query timeout으로 적용
+ *
+ * Hibernate / MyBatis / JdbcTemplate이 실행하는 모든 statement에 실행 직전 남은 시간(초 단위 올림)을 설정하고,
+ * 이미 기한이 지났으면 실행하지 않고 SQLTimeoutException을 던집니다(→ QueryTimeoutException, 504).
+ * 커넥션 획득 시점에 이미 기한이 지났으면 커넥션을 빌리지 않고 SQLTimeoutException을 던지며,
+ * 트랜잭션 시작 실패(CannotCreateTransactionException 등)로 감싸지더라도 GlobalExceptionHandler가 504로 변환합니다.
+ * 풀이 모두 사용 중일 때의 대기 시간은 각 풀(DeadlineHikariDataSource)이 남은 시간으로 제한합니다.
+ * timeout이 지나면 MySQL 드라이버가 KILL QUERY로 서버 쪽 실행도 취소합니다.
+ * 기한이 없는 스레드의 statement와 이미 더 짧은 timeout이 지정된 statement는 그대로 실행합니다.
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORY_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public DeadlineDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        checkDeadline();
+        return deadlineConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        checkDeadline();
+        return deadlineConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection deadlineConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                DeadlineDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(target));
+    }
+
+    private static void checkDeadline() throws SQLTimeoutException {
+        if (RequestDeadline.isExpired()) {
+            throw new SQLTimeoutException("Request deadline exceeded before connection acquisition");
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = DeadlineDataSource.invoke(target, method, args);
+            if (!STATEMENT_FACTORY_METHODS.contains(method.getName())) {
+                return result;
+            }
+
+            Class<?> statementType = switch (method.getName()) {
+                case "prepareStatement" -> PreparedStatement.class;
+                case "prepareCall" -> CallableStatement.class;
+                default -> Statement.class;
+            };
+            return Proxy.newProxyInstance(
+                    DeadlineDataSource.class.getClassLoader(),
+                    new Class<?>[]{statementType},
+                    new StatementHandler((Statement) result));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+
+        private StatementHandler(Statement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!EXECUTE_METHODS.contains(method.getName()) || !RequestDeadline.isActive()) {
+                return DeadlineDataSource.invoke(target, method, args);
+            }
+
+            long remainingMillis = RequestDeadline.remainingMillis();
+            if (remainingMillis <= 0) {
+                throw new SQLTimeoutException("Request deadline exceeded before statement execution");
+            }
+
+            // JDBC query timeout은 초 단위이므로 올림
+            int deadlineSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+            int previousSeconds = target.getQueryTimeout();
+            boolean applied = previousSeconds == 0 || previousSeconds > deadlineSeconds;
+            if (applied) {
+                target.setQueryTimeout(deadlineSeconds);
+            }
+            try {
+                return DeadlineDataSource.invoke(target, method, args);
+            } finally {
+                // 재사용되는 statement(드라이버 statement cache 등)에 요청 기한이 남지 않도록 복원
+                if (applied && !target.isClosed()) {
+                    target.setQueryTimeout(previousSeconds);
+                }
+            }
+        }
+    }
+}
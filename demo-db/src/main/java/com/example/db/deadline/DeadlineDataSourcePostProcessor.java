@@ -0,0 +1,47 @@
+package com.example.db.deadline;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * db.deadline.enabled=true(기본)이면 기본 dataSource 빈을 DeadlineDataSource로 감쌈
+ * workload / replica 라우팅을 포함한 모든 풀에 적용되도록 라우팅보다 바깥에서 감쌈
+ */
+@Slf4j
+@Component
+public class DeadlineDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware, Ordered {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public int getOrder() {
+        // 쿼리 수 집계(QueryCountingDataSource)보다 먼저 감싸서 집계 proxy가 가장 바깥에 오도록 함
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        if (!environment.getProperty("db.deadline.enabled", Boolean.class, true)) {
+            return bean;
+        }
+
+        log.info("Request deadline query timeout enabled for dataSource");
+        return new DeadlineDataSource(dataSource);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.db.deadline;
+
+import com.example.common.deadline.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 커넥션 대기 시간을 요청 기한(RequestDeadline)의 남은 시간으로 제한하는 HikariCP 풀
+ *
+ * 풀이 모두 사용 중이면 HikariCP는 connection-timeout까지 기다리므로, 남은 시간이 그보다 짧으면
+ * 남은 시간만 기다리고 SQLTimeoutException을 던집니다(→ GlobalExceptionHandler에서 504).
+ * workload / replica 라우팅으로 실제 풀이 커넥션 획득 시점에 정해지므로 바깥의 DeadlineDataSource가 아니라 각 풀에서 제한하며,
+ * 기본 / primary / replica / workload 풀 모두 이 클래스로 생성합니다.
+ * 기한이 없는 스레드(백그라운드 작업 등)나 남은 시간이 connection-timeout보다 길면 기존과 같이 동작합니다.
+ */
+public class DeadlineHikariDataSource extends HikariDataSource {
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long remainingMillis = RequestDeadline.remainingMillis();
+        if (remainingMillis >= getConnectionTimeout() || isClosed()) {
+            return super.getConnection();
+        }
+        if (remainingMillis <= 0) {
+            throw new SQLTimeoutException("Request deadline exceeded before connection acquisition");
+        }
+
+        // 풀은 첫 getConnection에서 생성되므로 생성 전이면 기본 경로로 생성
+        if (!(getHikariPoolMXBean() instanceof HikariPool pool)) {
+            return super.getConnection();
+        }
+        try {
+            return pool.getConnection(remainingMillis);
+        } catch (SQLTransientConnectionException e) {
+            throw new SQLTimeoutException("Request deadline exceeded while waiting for a connection", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.db.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 커넥션 풀 / SQL 실행 메트릭 설정 (db.metrics.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties("db.metrics")
+public class DbMetricsProperties {
+
+    private boolean enabled = true;
+
+    /** statement 태그 최대 길이 (HQL/SQL이 태그로 쓰이는 경우) */
+    private int maxStatementTagLength = 200;
+
+    /** statement 태그 종류 최대 개수 (넘으면 새 statement는 "other"로 기록) */
+    private int maxStatementTags = 500;
+
+    private SlowQuery slowQuery = new SlowQuery();
+
+    @Getter
+    @Setter
+    public static class SlowQuery {
+
+        /** 0 이하이면 slow query 로그 비활성화 */
+        private long thresholdMs = 500;
+
+        /** MyBatis 바인딩 파라미터를 로그에 포함할지 여부 */
+        private boolean logParameters = false;
+
+        /** 이름이 일치하는 파라미터는 값을 가림 */
+        private String redactedParameterPattern = "(?i).*(password|passwd|secret|token|email|phone).*";
+
+        /** 파라미터 값 최대 길이 */
+        private int maxParameterLength = 100;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.db.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * 모든 Hikari 풀에 Micrometer 등록 (hikaricp.connections.acquire/active/idle/pending/timeout, pool 태그 = poolName)
+ * 빈으로 등록되지 않은 workload / replica 풀까지 라우팅 DataSource를 따라가며 찾습니다.
+ */
+public class HikariPoolMeterBinder implements MeterBinder {
+
+    private final ObjectProvider<DataSource> dataSources;
+
+    public HikariPoolMeterBinder(ObjectProvider<DataSource> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Set<DataSource> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        dataSources.orderedStream().forEach(dataSource -> bind(dataSource, registry, visited));
+    }
+
+    private void bind(DataSource dataSource, MeterRegistry registry, Set<DataSource> visited) {
+        if (dataSource == null || !visited.add(dataSource)) {
+            return;
+        }
+
+        if (dataSource instanceof HikariDataSource hikari) {
+            // 다른 binder(Spring Boot 자동 설정)가 이미 등록한 풀은 건너뜀
+            if (hikari.getMetricRegistry() == null && hikari.getMetricsTrackerFactory() == null) {
+                hikari.setMetricRegistry(registry);
+            }
+        } else if (dataSource instanceof DelegatingDataSource delegating) {
+            bind(delegating.getTargetDataSource(), registry, visited);
+        } else if (dataSource instanceof AbstractRoutingDataSource routing) {
+            bind(routing.getResolvedDefaultDataSource(), registry, visited);
+            routing.getResolvedDataSources().values().forEach(target -> bind(target, registry, visited));
+        }
+    }
+}
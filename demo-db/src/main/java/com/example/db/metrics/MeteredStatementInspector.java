@@ -0,0 +1,34 @@
+package com.example.db.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 모든 SQL을 operation별로 집계
+ * 마지막 SQL은 criteria 쿼리(HQL 문자열 없음)의 statement 태그로 사용되며, 사용한 뒤 비웁니다.
+ */
+public class MeteredStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+    private final StatementMetrics statementMetrics;
+
+    public MeteredStatementInspector(StatementMetrics statementMetrics) {
+        this.statementMetrics = statementMetrics;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        LAST_SQL.set(sql);
+        statementMetrics.count(StatementMetrics.SOURCE_HIBERNATE, StatementMetrics.operationOf(sql));
+        return sql;
+    }
+
+    /**
+     * 마지막 SQL을 꺼내고 비움 (pool 스레드에 이전 요청의 SQL이 남지 않도록)
+     */
+    static String takeLastSql() {
+        String sql = LAST_SQL.get();
+        LAST_SQL.remove();
+        return sql;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.db.metrics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 통계 hook
+ * 쿼리(HQL/criteria/native) 실행 시간과 결과 행 수를 StatementMetrics로, slow query(hibernate.log_slow_query)를 SlowQueryLogger로 전달
+ */
+public class MeteredStatistics extends StatisticsImpl {
+
+    private static final String CRITERIA_QUERY = "<criteria>";
+
+    private final StatementMetrics statementMetrics;
+    private final SlowQueryLogger slowQueryLogger;
+
+    public MeteredStatistics(SessionFactoryImplementor sessionFactory,
+                             StatementMetrics statementMetrics, SlowQueryLogger slowQueryLogger) {
+        super(sessionFactory);
+        this.statementMetrics = statementMetrics;
+        this.slowQueryLogger = slowQueryLogger;
+    }
+
+    @Override
+    public void queryExecuted(String query, int rows, long time) {
+        super.queryExecuted(query, rows, time);
+        // Spring Data 파생 쿼리 등 criteria는 HQL이 없으므로 실행된 SQL로 구분 (StatementMetrics가 템플릿으로 정규화)
+        String lastSql = MeteredStatementInspector.takeLastSql();
+        String statement = CRITERIA_QUERY.equals(query) && lastSql != null ? lastSql : query;
+        statementMetrics.record(StatementMetrics.SOURCE_HIBERNATE, statement, TimeUnit.MILLISECONDS.toNanos(time), rows);
+    }
+
+    /**
+     * SQL은 드라이버의 Statement.toString()이라 바인딩 값이 포함될 수 있음 (SlowQueryLogger에서 리터럴을 가림)
+     */
+    @Override
+    public void slowQuery(String sql, long executionTime) {
+        super.slowQuery(sql, executionTime);
+        slowQueryLogger.log(StatementMetrics.SOURCE_HIBERNATE, null, sql, executionTime, null);
+    }
+
+    public static StatisticsFactory factory(StatementMetrics statementMetrics, SlowQueryLogger slowQueryLogger) {
+        return sessionFactory -> new MeteredStatistics(sessionFactory, statementMetrics, slowQueryLogger);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.db.metrics;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis SQL 실행 시간 / 행 수 측정 및 slow query 로그
+ * statement 태그는 mapper statement id (예: com.example...MenuMapper.selectMenuTree)
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "batch", args = {Statement.class})
+})
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+    private final StatementMetrics statementMetrics;
+    private final SlowQueryLogger slowQueryLogger;
+
+    public MyBatisMetricsInterceptor(StatementMetrics statementMetrics, SlowQueryLogger slowQueryLogger) {
+        this.statementMetrics = statementMetrics;
+        this.slowQueryLogger = slowQueryLogger;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        Object result = invocation.proceed();
+        long elapsedNanos = System.nanoTime() - start;
+
+        StatementHandler handler = (StatementHandler) invocation.getTarget();
+        MappedStatement mappedStatement = mappedStatementOf(handler);
+        String statementId = mappedStatement != null ? mappedStatement.getId() : null;
+        BoundSql boundSql = handler.getBoundSql();
+
+        statementMetrics.record(StatementMetrics.SOURCE_MYBATIS, statementId, elapsedNanos, rowsOf(result));
+        statementMetrics.count(StatementMetrics.SOURCE_MYBATIS, StatementMetrics.operationOf(boundSql.getSql()));
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (slowQueryLogger.isSlow(elapsedMillis)) {
+            Map<String, Object> parameters = slowQueryLogger.isLogParameters() && mappedStatement != null
+                    ? parametersOf(mappedStatement.getConfiguration(), boundSql)
+                    : null;
+            slowQueryLogger.log(StatementMetrics.SOURCE_MYBATIS, statementId, boundSql.getSql(), elapsedMillis, parameters);
+        }
+        return result;
+    }
+
+    private static int rowsOf(Object result) {
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Integer affected) {
+            return affected;
+        }
+        // batch는 executeBatch 시점에 결과가 나오므로 행 수를 알 수 없음
+        return -1;
+    }
+
+    /**
+     * RoutingStatementHandler → 실제 handler의 MappedStatement
+     */
+    private static MappedStatement mappedStatementOf(StatementHandler handler) {
+        MetaObject metaObject = SystemMetaObject.forObject(handler);
+        String property = metaObject.hasGetter("delegate") ? "delegate.mappedStatement" : "mappedStatement";
+        return metaObject.hasGetter(property) ? (MappedStatement) metaObject.getValue(property) : null;
+    }
+
+    /**
+     * DefaultParameterHandler와 같은 규칙으로 바인딩 값 추출
+     */
+    private static Map<String, Object> parametersOf(Configuration configuration, BoundSql boundSql) {
+        Object parameterObject = boundSql.getParameterObject();
+        MetaObject metaObject = null;
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            String property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameterObject == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+                value = parameterObject;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameterObject);
+                }
+                value = metaObject.getValue(property);
+            }
+            parameters.put(property, value);
+        }
+        return parameters;
+    }
+}
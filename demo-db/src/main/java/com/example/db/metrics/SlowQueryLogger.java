@@ -0,0 +1,87 @@
+package com.example.db.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 임계값을 넘은 SQL 로그
+ *
+ * SQL 안의 문자열 리터럴은 항상 가리고('?'), 바인딩 파라미터는 log-parameters=true일 때만
+ * 이름이 redacted-parameter-pattern과 일치하지 않는 값에 한해 출력합니다.
+ */
+@Slf4j
+public class SlowQueryLogger {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final String REDACTED = "****";
+
+    private final long thresholdMillis;
+    private final boolean logParameters;
+    private final Pattern redactedParameter;
+    private final int maxParameterLength;
+
+    public SlowQueryLogger(DbMetricsProperties properties) {
+        DbMetricsProperties.SlowQuery slowQuery = properties.getSlowQuery();
+        this.thresholdMillis = slowQuery.getThresholdMs();
+        this.logParameters = slowQuery.isLogParameters();
+        this.redactedParameter = Pattern.compile(slowQuery.getRedactedParameterPattern());
+        this.maxParameterLength = slowQuery.getMaxParameterLength();
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    public boolean isSlow(long elapsedMillis) {
+        return thresholdMillis > 0 && elapsedMillis >= thresholdMillis;
+    }
+
+    public boolean isLogParameters() {
+        return logParameters;
+    }
+
+    /**
+     * @param parameters 파라미터 이름 → 값 (없으면 null)
+     */
+    public void log(String source, String statementId, String sql, long elapsedMillis, Map<String, Object> parameters) {
+        if (!isSlow(elapsedMillis)) {
+            return;
+        }
+
+        String redactedSql = redactSql(sql);
+        if (logParameters && parameters != null && !parameters.isEmpty()) {
+            log.warn("Slow query ({} ms) source={}, statement={}: {} | parameters={}",
+                    elapsedMillis, source, statementId, redactedSql, redactParameters(parameters));
+        } else {
+            log.warn("Slow query ({} ms) source={}, statement={}: {}",
+                    elapsedMillis, source, statementId, redactedSql);
+        }
+    }
+
+    static String redactSql(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        return STRING_LITERAL.matcher(sql.replaceAll("\\s+", " ").strip()).replaceAll("'?'");
+    }
+
+    private Map<String, String> redactParameters(Map<String, Object> parameters) {
+        Map<String, String> redacted = new LinkedHashMap<>();
+        parameters.forEach((name, value) -> redacted.put(name, redactValue(name, value)));
+        return redacted;
+    }
+
+    private String redactValue(String name, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (redactedParameter.matcher(name).matches()) {
+            return REDACTED;
+        }
+        String text = String.valueOf(value);
+        return text.length() > maxParameterLength ? text.substring(0, maxParameterLength) + "..." : text;
+    }
+}
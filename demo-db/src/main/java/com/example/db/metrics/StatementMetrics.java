@@ -0,0 +1,156 @@
+package com.example.db.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 실행 시간 / 결과 행 수 기록
+ *
+ * db.statement (timer), db.statement.rows (summary): source(mybatis|hibernate), statement(mapper id 또는 HQL/SQL 템플릿)
+ * db.statement.count (counter): source, operation(select|insert|update|delete|other)
+ * MeterRegistry가 연결되기 전(애플리케이션 기동 중)의 실행은 기록하지 않습니다.
+ *
+ * HQL/SQL은 리터럴과 IN 목록을 ?로 바꾼 템플릿을 태그로 쓰고, 최대 길이를 넘으면 앞부분 + 템플릿 hash로 줄입니다.
+ * 태그 종류가 max-statement-tags를 넘으면 이후 새 statement는 "other"로 묶어 태그 수를 제한합니다.
+ */
+@Slf4j
+public class StatementMetrics implements MeterBinder {
+
+    public static final String SOURCE_MYBATIS = "mybatis";
+    public static final String SOURCE_HIBERNATE = "hibernate";
+
+    static final String OTHER_STATEMENT = "other";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.?])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** 원문 → 태그 변환 결과 캐시 최대 크기 (리터럴이 포함된 원문은 종류가 많으므로 넘으면 캐시하지 않음) */
+    private static final int MAX_CACHED_STATEMENTS = 10_000;
+
+    private final int maxStatementTagLength;
+    private final int maxStatementTags;
+
+    private final Map<String, String> tagCache = new ConcurrentHashMap<>();
+    private final Set<String> tags = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean tagLimitWarned = new AtomicBoolean();
+
+    private volatile MeterRegistry registry;
+
+    public StatementMetrics(DbMetricsProperties properties) {
+        this.maxStatementTagLength = Math.max(properties.getMaxStatementTagLength(), 32);
+        this.maxStatementTags = properties.getMaxStatementTags();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void record(String source, String statement, long elapsedNanos, int rows) {
+        MeterRegistry registry = this.registry;
+        if (registry == null) {
+            return;
+        }
+
+        String statementTag = toTag(statement);
+        Timer.builder("db.statement")
+                .description("SQL statement execution time")
+                .tag("source", source)
+                .tag("statement", statementTag)
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (rows >= 0) {
+            DistributionSummary.builder("db.statement.rows")
+                    .description("Rows returned or affected per statement")
+                    .baseUnit("rows")
+                    .tag("source", source)
+                    .tag("statement", statementTag)
+                    .register(registry)
+                    .record(rows);
+        }
+    }
+
+    public void count(String source, String operation) {
+        MeterRegistry registry = this.registry;
+        if (registry == null) {
+            return;
+        }
+        registry.counter("db.statement.count", "source", source, "operation", operation).increment();
+    }
+
+    /**
+     * SQL 앞부분으로 operation 구분
+     */
+    public static String operationOf(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return switch (trimmed.substring(0, end).toLowerCase()) {
+            case "select", "with" -> "select";
+            case "insert" -> "insert";
+            case "update" -> "update";
+            case "delete" -> "delete";
+            default -> "other";
+        };
+    }
+
+    String toTag(String statement) {
+        if (statement == null) {
+            return "unknown";
+        }
+        String tag = tagCache.get(statement);
+        if (tag == null) {
+            tag = limit(template(statement));
+            if (tagCache.size() < MAX_CACHED_STATEMENTS) {
+                tagCache.put(statement, tag);
+            }
+        }
+        return tag;
+    }
+
+    /**
+     * 리터럴 / IN 목록 길이만 다른 statement가 같은 태그가 되도록 정규화
+     */
+    String template(String statement) {
+        String template = STRING_LITERAL.matcher(statement).replaceAll("?");
+        template = NUMBER_LITERAL.matcher(template).replaceAll("?");
+        template = IN_LIST.matcher(template).replaceAll("in (?)");
+        template = WHITESPACE.matcher(template).replaceAll(" ").strip();
+        if (template.length() > maxStatementTagLength) {
+            // 앞부분이 같은 statement끼리 섞이지 않도록 전체 템플릿의 hash를 붙임
+            String hash = String.format("#%08x", template.hashCode());
+            template = template.substring(0, maxStatementTagLength - hash.length()) + hash;
+        }
+        return template;
+    }
+
+    private String limit(String tag) {
+        if (tags.contains(tag)) {
+            return tag;
+        }
+        if (tags.size() >= maxStatementTags) {
+            if (tagLimitWarned.compareAndSet(false, true)) {
+                log.warn("Statement tag limit ({}) reached, new statements are recorded as '{}'",
+                        maxStatementTags, OTHER_STATEMENT);
+            }
+            return OTHER_STATEMENT;
+        }
+        tags.add(tag);
+        return tag;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.db.mybatis;
+
+import com.example.common.enums.YesNo;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * MyBatis에서 YesNo enum을 DB의 Y/N 문자로 변환 (JPA의 YesNoConverter와 같은 규칙)
+ * 기본 EnumTypeHandler는 enum 이름(YES/NO)으로 변환하므로 Y/N 컬럼을 읽지 못함
+ */
+@MappedTypes(YesNo.class)
+public class YesNoTypeHandler extends BaseTypeHandler<YesNo> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, YesNo parameter, JdbcType jdbcType) throws SQLException {
+        ps.setString(i, parameter.getValue());
+    }
+
+    @Override
+    public YesNo getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toYesNo(rs.getString(columnName));
+    }
+
+    @Override
+    public YesNo getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toYesNo(rs.getString(columnIndex));
+    }
+
+    @Override
+    public YesNo getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toYesNo(cs.getString(columnIndex));
+    }
+
+    private static YesNo toYesNo(String value) {
+        return value == null || value.isEmpty() ? null : YesNo.fromValue(value);
+    }
+}
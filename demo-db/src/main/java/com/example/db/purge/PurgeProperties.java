@@ -0,0 +1,53 @@
+package com.example.db.purge;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * soft delete 행 정리 설정 (db.purge.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties("db.purge")
+public class PurgeProperties {
+
+    private boolean enabled = false;
+
+    private long initialDelayMs = 60_000;
+
+    private long intervalMs = 3_600_000;
+
+    /** deleted_at이 이 기간보다 오래된 행만 정리 */
+    private int retentionDays = 30;
+
+    private int batchSize = 500;
+
+    /** batch 사이 대기 (운영 중 부하/복제 지연 완화) */
+    private long pauseMs = 200;
+
+    /** 1회 실행의 테이블별 최대 batch 수, 나머지는 다음 실행에서 처리 */
+    private int maxBatchesPerRun = 1000;
+
+    /** 여러 인스턴스 중 하나만 실행하기 위한 MySQL named lock */
+    private String lockName = "db-soft-delete-purge";
+
+    /** 자식 테이블(FK 보유)을 먼저 지정 */
+    private List<Table> tables = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Table {
+        private String name;
+        private String idColumn;
+        /** 생략 시 {name}_archive */
+        private String archiveTable;
+
+        public String resolveArchiveTable() {
+            return archiveTable != null ? archiveTable : name + "_archive";
+        }
+    }
+}
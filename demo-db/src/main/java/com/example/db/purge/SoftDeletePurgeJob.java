@@ -0,0 +1,279 @@
+package com.example.db.purge;
+
+import com.example.db.workload.Workload;
+import com.example.db.workload.WorkloadContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * soft delete(del_yn = 'Y')된 지 retention-days가 지난 행을 archive 테이블로 옮기고 원본에서 삭제
+ *
+ * - MySQL GET_LOCK으로 인스턴스 중 하나만 실행 (lock을 잡은 커넥션 하나로 전체 작업 수행)
+ * - PK 기준 keyset으로 batch-size만큼 조회 → archive INSERT + 원본 DELETE를 batch 단위 트랜잭션으로 처리, batch 사이 pause
+ * - batch가 실패하면(FK로 참조 중인 행, 동시 복구 등) 해당 batch만 행 단위로 다시 처리해 문제 행만 남김
+ * - archive 테이블은 미리 생성되어 있어야 함 (원본의 모든 컬럼 + archived_at)
+ * - 삭제한 테이블에 매핑된 엔티티의 Hibernate 2차 캐시를 비우고 SoftDeletePurgedEvent 발행 (MyBatis 캐시 등은 각 모듈에서 비움)
+ */
+@Slf4j
+public class SoftDeletePurgeJob implements AutoCloseable {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final DataSource dataSource;
+    private final PurgeProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("db-purge-"));
+
+    private volatile boolean closed;
+
+    public SoftDeletePurgeJob(DataSource dataSource, PurgeProperties properties,
+                              ObjectProvider<MeterRegistry> meterRegistry,
+                              ObjectProvider<EntityManagerFactory> entityManagerFactory,
+                              ApplicationEventPublisher eventPublisher) {
+        for (PurgeProperties.Table table : properties.getTables()) {
+            validateIdentifier(table.getName());
+            validateIdentifier(table.getIdColumn());
+            validateIdentifier(table.resolveArchiveTable());
+        }
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+
+        scheduler.scheduleWithFixedDelay(() -> WorkloadContext.run(Workload.BATCH, this::runOnce),
+                properties.getInitialDelayMs(), properties.getIntervalMs(), TimeUnit.MILLISECONDS);
+        log.info("Soft delete purge scheduled: tables={}, retentionDays={}, intervalMs={}",
+                properties.getTables().stream().map(PurgeProperties.Table::getName).toList(),
+                properties.getRetentionDays(), properties.getIntervalMs());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 1회 실행, lock을 얻지 못하면(다른 인스턴스 실행 중) 건너뜀
+     */
+    public void runOnce() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getRetentionDays());
+        try (Connection connection = dataSource.getConnection()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            if (!acquireLock(jdbcTemplate)) {
+                log.debug("Soft delete purge skipped: lock {} held by another instance", properties.getLockName());
+                countRun("skipped");
+                return;
+            }
+
+            try {
+                for (PurgeProperties.Table table : properties.getTables()) {
+                    if (closed) {
+                        break;
+                    }
+                    purgeTable(connection, jdbcTemplate, table, cutoff);
+                }
+                countRun("completed");
+            } finally {
+                jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, properties.getLockName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Soft delete purge failed", e);
+            countRun("failed");
+        }
+    }
+
+    private boolean acquireLock(JdbcTemplate jdbcTemplate) {
+        Integer acquired = jdbcTemplate.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, properties.getLockName());
+        return acquired != null && acquired == 1;
+    }
+
+    private void purgeTable(Connection connection, JdbcTemplate jdbcTemplate, PurgeProperties.Table table,
+                            LocalDateTime cutoff) throws SQLException, InterruptedException {
+        String source = table.getName();
+        String archive = table.resolveArchiveTable();
+        String id = table.getIdColumn();
+
+        List<String> columns = columnsOf(jdbcTemplate, source);
+        if (columns.isEmpty() || columnsOf(jdbcTemplate, archive).isEmpty()) {
+            log.warn("Soft delete purge skipped for {}: table or archive table {} not found", source, archive);
+            return;
+        }
+        String columnList = String.join(", ", columns);
+
+        String firstBatchSql = "SELECT " + id + " FROM " + source
+                + " WHERE del_yn = 'Y' AND deleted_at < ? ORDER BY " + id + " LIMIT ?";
+        String nextBatchSql = "SELECT " + id + " FROM " + source
+                + " WHERE " + id + " > ? AND del_yn = 'Y' AND deleted_at < ? ORDER BY " + id + " LIMIT ?";
+
+        Object cursor = null;
+        long archived = 0;
+        long failed = 0;
+        Timestamp cutoffTimestamp = Timestamp.valueOf(cutoff);
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun() && !closed; batch++) {
+            List<Object> ids = cursor == null
+                    ? jdbcTemplate.queryForList(firstBatchSql, Object.class, cutoffTimestamp, properties.getBatchSize())
+                    : jdbcTemplate.queryForList(nextBatchSql, Object.class, cursor, cutoffTimestamp, properties.getBatchSize());
+            if (ids.isEmpty()) {
+                break;
+            }
+            cursor = ids.get(ids.size() - 1);
+
+            boolean moved;
+            try {
+                moved = moveRows(connection, jdbcTemplate, source, archive, id, columnList, ids);
+            } catch (RuntimeException e) {
+                // FK로 참조 중인 행 등, 문제 행만 남기도록 행 단위로 재시도
+                log.warn("Soft delete purge batch on {} failed, retrying row by row: {}", source, e.getMessage());
+                moved = false;
+            }
+            if (moved) {
+                archived += ids.size();
+            } else {
+                RowResult result = moveRowByRow(connection, jdbcTemplate, source, archive, id, columnList, ids);
+                archived += result.archived();
+                failed += result.failed();
+            }
+
+            if (ids.size() < properties.getBatchSize()) {
+                break;
+            }
+            Thread.sleep(properties.getPauseMs());
+        }
+
+        countRows(source, "archived", archived);
+        countRows(source, "failed", failed);
+        if (archived > 0) {
+            evictSecondLevelCache(source);
+            eventPublisher.publishEvent(new SoftDeletePurgedEvent(source, archived));
+            log.info("Soft delete purge on {}: archived={}, failed={}", source, archived, failed);
+        }
+    }
+
+    /**
+     * archive INSERT + 원본 DELETE를 한 트랜잭션으로 처리
+     * 조회 이후 복구(restore)된 행이 있으면 archive에만 남은 행도 함께 롤백되도록 건수를 비교해 롤백하고 false 반환
+     */
+    private static boolean moveRows(Connection connection, JdbcTemplate jdbcTemplate, String source, String archive,
+                                    String id, String columnList, List<Object> ids) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        connection.setAutoCommit(false);
+        try {
+            jdbcTemplate.update("INSERT INTO " + archive + " (" + columnList + ") SELECT " + columnList
+                    + " FROM " + source + " WHERE " + id + " IN (" + placeholders + ")", args);
+            int deleted = jdbcTemplate.update("DELETE FROM " + source + " WHERE " + id + " IN (" + placeholders + ")"
+                    + " AND del_yn = 'Y'", args);
+            if (deleted != ids.size()) {
+                connection.rollback();
+                return false;
+            }
+            connection.commit();
+            return true;
+        } catch (RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * 실패한 batch를 행 단위 트랜잭션으로 재처리
+     * 실패한 행만 원본에 남고 다음 실행에서 다시 시도됨 (동시에 복구된 행은 실패로 세지 않음)
+     */
+    private static RowResult moveRowByRow(Connection connection, JdbcTemplate jdbcTemplate, String source,
+                                          String archive, String id, String columnList, List<Object> ids)
+            throws SQLException {
+        long archived = 0;
+        long failed = 0;
+        for (Object rowId : ids) {
+            try {
+                if (moveRows(connection, jdbcTemplate, source, archive, id, columnList, List.of(rowId))) {
+                    archived++;
+                }
+            } catch (RuntimeException e) {
+                failed++;
+                log.debug("Soft delete purge row {}.{}={} failed: {}", source, id, rowId, e.getMessage());
+            }
+        }
+        if (failed > 0) {
+            log.warn("Soft delete purge on {}: {} of {} rows left in place (referenced or invalid)",
+                    source, failed, ids.size());
+        }
+        return new RowResult(archived, failed);
+    }
+
+    private record RowResult(long archived, long failed) {
+    }
+
+    private static List<String> columnsOf(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForList("SELECT COLUMN_NAME FROM information_schema.COLUMNS"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY ORDINAL_POSITION", String.class, table);
+    }
+
+    /**
+     * JDBC로 삭제한 행이 2차 캐시에 남지 않도록 해당 테이블 엔티티의 캐시 비움
+     */
+    private void evictSecondLevelCache(String table) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return;
+        }
+        SessionFactoryImplementor sessionFactory = factory.unwrap(SessionFactoryImplementor.class);
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister instanceof AbstractEntityPersister entityPersister
+                    && table.equalsIgnoreCase(entityPersister.getTableName())) {
+                sessionFactory.getCache().evictEntityData(entityPersister.getEntityName());
+                sessionFactory.getCache().evictNaturalIdData(entityPersister.getEntityName());
+            }
+        });
+    }
+
+    private void countRows(String table, String outcome, long rows) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null && rows > 0) {
+            registry.counter("db.purge.rows", "table", table, "outcome", outcome).increment(rows);
+        }
+    }
+
+    private void countRun(String result) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.counter("db.purge.runs", "result", result).increment();
+        }
+    }
+
+    private static void validateIdentifier(String identifier) {
+        if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("Invalid purge table/column name: " + identifier);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.db.purge;
+
+/**
+ * SoftDeletePurgeJob이 테이블의 행을 archive로 옮기고 삭제한 뒤 발행
+ * JDBC로 삭제하므로 각 모듈의 조회 캐시(MyBatis 2차 캐시 등)는 이 이벤트로 비움
+ *
+ * @param table    원본 테이블 이름
+ * @param archived 이번 실행에서 옮긴 행 수
+ */
+public record SoftDeletePurgedEvent(String table, long archived) {
+}
@@ -0,0 +1,19 @@
+package com.example.db.querycount;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 1회 실행(트랜잭션 커밋 포함)에 허용되는 최대 JDBC statement 수
+ * db.query-budget.enabled=true일 때만 집계되며, 초과 시 로그(fail-on-exceed=true면 예외)로 알립니다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,60 @@
+package com.example.db.querycount;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code @QueryBudget} 메서드의 쿼리 수 확인
+ * 트랜잭션 커밋 시점의 flush(UPDATE/INSERT)까지 포함하도록 트랜잭션보다 바깥에서 실행
+ * 어노테이션 인자(budget) 바인딩에 ExposeInvocationInterceptor(HIGHEST_PRECEDENCE + 1)가 필요하므로 그 안쪽에서 실행
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class QueryBudgetAspect {
+
+    @Value("${db.query-budget.enabled:false}")
+    private boolean enabled;
+
+    @Value("${db.query-budget.log-call-sites:true}")
+    private boolean logCallSites;
+
+    @Value("${db.query-budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    @PostConstruct
+    public void init() {
+        QueryCounter.setCaptureCallSites(logCallSites);
+    }
+
+    @Around("@annotation(budget)")
+    public Object checkBudget(ProceedingJoinPoint joinPoint, QueryBudget budget) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+
+        Object result;
+        QueryCounter.Scope scope = QueryCounter.start(joinPoint.getSignature().toShortString());
+        try {
+            result = joinPoint.proceed();
+        } finally {
+            scope.close();
+        }
+
+        if (scope.getCount() > budget.value()) {
+            if (failOnExceed) {
+                scope.assertAtMost(budget.value());
+            }
+            log.warn(QueryBudgetExceededException.describe(scope.getName(), budget.value(), scope.getStatements()));
+        }
+        return result;
+    }
+}
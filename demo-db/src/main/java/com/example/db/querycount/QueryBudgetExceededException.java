@@ -0,0 +1,29 @@
+package com.example.db.querycount;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 허용된 쿼리 수 초과
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    private final transient List<QueryCounter.ExecutedStatement> statements;
+
+    public QueryBudgetExceededException(String name, int max, List<QueryCounter.ExecutedStatement> statements) {
+        super(describe(name, max, statements));
+        this.statements = statements;
+    }
+
+    public List<QueryCounter.ExecutedStatement> getStatements() {
+        return statements;
+    }
+
+    static String describe(String name, int max, List<QueryCounter.ExecutedStatement> statements) {
+        return "Query budget exceeded: " + name + " executed " + statements.size() + " statements (max " + max + ")"
+                + statements.stream()
+                .map(statement -> "\n  - " + statement.sql().replaceAll("\\s+", " ").strip()
+                        + (statement.callSite() != null ? "  @ " + statement.callSite() : ""))
+                .collect(Collectors.joining());
+    }
+}
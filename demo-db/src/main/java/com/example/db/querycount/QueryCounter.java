@@ -0,0 +1,121 @@
+package com.example.db.querycount;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 현재 스레드에서 실행된 JDBC statement 수 집계 (Hibernate / MyBatis / JdbcTemplate 공통)
+ *
+ * db.query-budget.enabled=true일 때 dataSource가 QueryCountingDataSource로 감싸져 집계됩니다.
+ * 테스트에서는 다음과 같이 사용합니다.
+ * <pre>
+ * try (QueryCounter.Scope scope = QueryCounter.start("menu tree")) {
+ *     mockMvc.perform(get("/api/v1/demo/public/menus/tree"));
+ *     scope.assertAtMost(1);
+ * }
+ * </pre>
+ * 다른 스레드(비동기 작업 등)에서 실행된 statement는 집계되지 않습니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Deque<Scope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String APPLICATION_PACKAGE = "com.example.";
+    private static final String DB_PACKAGE = "com.example.db.";
+
+    private static volatile boolean captureCallSites = true;
+
+    private QueryCounter() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 집계 시작, 중첩 가능 (바깥 scope에도 함께 집계됨)
+     */
+    public static Scope start(String name) {
+        Scope scope = new Scope(name);
+        SCOPES.get().push(scope);
+        return scope;
+    }
+
+    /**
+     * statement마다 호출 위치(애플리케이션 코드의 첫 stack frame)를 기록할지 여부
+     */
+    public static void setCaptureCallSites(boolean capture) {
+        captureCallSites = capture;
+    }
+
+    static void record(String sql) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            return;
+        }
+
+        ExecutedStatement statement = new ExecutedStatement(sql, captureCallSites ? callSite() : null);
+        for (Scope scope : scopes) {
+            scope.statements.add(statement);
+        }
+    }
+
+    private static String callSite() {
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(f -> !f.getClassName().startsWith(DB_PACKAGE))
+                .filter(f -> !f.getClassName().contains("$$"))
+                .findFirst());
+        return frame.map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown");
+    }
+
+    public record ExecutedStatement(String sql, String callSite) {
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final List<ExecutedStatement> statements = new ArrayList<>();
+        private boolean closed;
+
+        private Scope(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return statements.size();
+        }
+
+        public List<ExecutedStatement> getStatements() {
+            return Collections.unmodifiableList(statements);
+        }
+
+        /**
+         * @throws QueryBudgetExceededException 실행된 statement가 max보다 많은 경우
+         */
+        public void assertAtMost(int max) {
+            if (statements.size() > max) {
+                throw new QueryBudgetExceededException(name, max, getStatements());
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Deque<Scope> scopes = SCOPES.get();
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.db.querycount;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 커넥션을 proxy로 감싸 실행되는 statement를 QueryCounter에 기록
+ * PreparedStatement는 준비(prepare) 시점에 1건, 일반 Statement는 SQL 실행(execute/addBatch)마다 1건으로 집계
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> STATEMENT_EXECUTE_METHODS =
+            Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new CountingHandler(target, true));
+    }
+
+    private static final class CountingHandler implements InvocationHandler {
+
+        private final Object target;
+        private final boolean connection;
+
+        private CountingHandler(Object target, boolean connection) {
+            this.target = target;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (connection && PREPARE_METHODS.contains(name)) {
+                QueryCounter.record((String) args[0]);
+            } else if (!connection && STATEMENT_EXECUTE_METHODS.contains(name) && args != null && args[0] instanceof String sql) {
+                QueryCounter.record(sql);
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+
+            if (connection && "createStatement".equals(name)) {
+                return Proxy.newProxyInstance(
+                        QueryCountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{Statement.class},
+                        new CountingHandler(result, false));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.db.querycount;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * db.query-budget.enabled=true이면 기본 dataSource 빈을 QueryCountingDataSource로 감쌈
+ * workload / replica 라우팅을 포함한 모든 풀이 집계되도록 가장 바깥에서 감쌈
+ */
+@Slf4j
+@Component
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware, Ordered {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        if (!environment.getProperty("db.query-budget.enabled", Boolean.class, false)) {
+            return bean;
+        }
+
+        log.info("Query counting enabled for dataSource");
+        return new QueryCountingDataSource(dataSource);
+    }
+}
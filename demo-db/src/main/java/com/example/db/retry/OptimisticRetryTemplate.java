@@ -0,0 +1,78 @@
+package com.example.db.retry;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * {@code @Version} 충돌 시 트랜잭션 단위 재시도
+ *
+ * 매 시도마다 새 트랜잭션(새 영속성 컨텍스트)에서 엔티티를 다시 읽고 변경을 다시 적용하므로,
+ * action은 읽은 값에 의존하지 않는 변경(필드 값 지정 등)이어야 합니다.
+ * max-attempts 안에 성공하지 못하면 마지막 OptimisticLockingFailureException을 그대로 던집니다.
+ * 이미 트랜잭션 안에서 호출되면 재시도해도 같은 영속성 컨텍스트를 쓰므로 한 번만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticRetryTemplate {
+
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${db.optimistic-retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${db.optimistic-retry.backoff-ms:20}")
+    private long backoffMillis;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Optimistic lock conflict not resolved after {} attempts, operation={}", attempt, operation);
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict, retrying operation={} (attempt {})", operation, attempt);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    /**
+     * 동시에 충돌한 요청이 같은 시점에 다시 부딪히지 않도록 시도 횟수에 비례한 대기 + jitter
+     */
+    private void backoff(int attempt, OptimisticLockingFailureException conflict) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        long delay = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.db.routing;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션은 replica로, 그 외에는 primary로 보내는 DataSource
+ *
+ * 트랜잭션 시작 시점에 바로 커넥션을 얻으면 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ * 정상 replica가 없으면(지연 초과, 장애) primary로 보냅니다.
+ * 주의: readOnly 트랜잭션 안에서 호출된 쓰기(REQUIRED 전파)도 replica로 가므로 실패합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaLagMonitor lagMonitor) {
+        this.replicas = replicas;
+        this.lagMonitor = lagMonitor;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public ReplicaLagMonitor getLagMonitor() {
+        return lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        // round-robin, 비정상 replica는 건너뜀
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            if (lagMonitor.isHealthy(index)) {
+                return index;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        lagMonitor.close();
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.db.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * replica 지연(SHOW REPLICA STATUS의 Seconds_Behind_Source) 주기 확인
+ * 접속 실패, 복제 중단(NULL), max-lag 초과 replica는 라우팅 대상에서 제외합니다.
+ * 복제 상태가 조회되지 않는 서버(로컬 stand-in 등)는 지연 0으로 간주합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final List<DataSource> replicas;
+    private final long maxLagSeconds;
+    private final AtomicIntegerArray healthy;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-lag-monitor-"));
+
+    public ReplicaLagMonitor(List<DataSource> replicas, long maxLagSeconds, long intervalMillis) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        // 첫 확인이 끝나기 전까지는 모든 replica를 제외 (기동이 replica 접속을 기다리지 않도록 비동기 확인)
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isHealthy(int index) {
+        return healthy.get(index) == 1;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void checkAll() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean ok = check(i);
+            if (healthy.getAndSet(i, ok ? 1 : 0) == 1 != ok) {
+                log.warn("Replica {} is now {}", i, ok ? "in rotation" : "out of rotation");
+            }
+        }
+    }
+
+    private boolean check(int index) {
+        try (Connection connection = replicas.get(index).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(2);
+            Long lag = readLagSeconds(statement);
+            if (lag == null) {
+                log.warn("Replica {} replication is not running", index);
+                return false;
+            }
+            if (lag > maxLagSeconds) {
+                log.warn("Replica {} lag {}s exceeds {}s", index, lag, maxLagSeconds);
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            log.warn("Replica {} health check failed: {}", index, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return 지연 시간(초), 복제가 중단된 경우 null, 복제 설정이 없으면 0
+     */
+    private static Long readLagSeconds(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : lag;
+        }
+    }
+}
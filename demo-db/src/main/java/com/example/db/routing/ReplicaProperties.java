@@ -0,0 +1,35 @@
+package com.example.db.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 replica 설정 (db.replica.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties("db.replica")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    /** 이 값보다 지연된 replica는 사용하지 않음 */
+    private long maxLagSeconds = 5;
+
+    private long healthCheckIntervalMs = 5000;
+
+    private List<Instance> instances = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Instance {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 5;
+    }
+}
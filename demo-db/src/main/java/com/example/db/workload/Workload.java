@@ -0,0 +1,25 @@
+package com.example.db.workload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB 커넥션 풀 선택 (db.workloads.pools.{name})
+ * 설정되지 않은 이름이거나 지정하지 않은 경우 기본 풀을 사용합니다.
+ * 트랜잭션보다 먼저 적용되므로 {@code @Transactional}과 함께 지정할 수 있습니다.
+ * {@code @Transactional(label = "workload:admin")} 처럼 트랜잭션 속성으로 지정해도 됩니다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Workload {
+
+    String PUBLIC_READ = "public-read";
+    String ADMIN = "admin";
+    String BATCH = "batch";
+
+    String value();
+}
@@ -0,0 +1,68 @@
+package com.example.db.workload;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * {@code @Workload} 또는 {@code @Transactional(label = "workload:{name}")} 지정 메서드 실행 동안 WorkloadContext 설정
+ * 트랜잭션 시작(커넥션 획득) 전에 풀이 정해져야 하므로 가장 먼저 실행
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    public static final String TRANSACTION_LABEL_PREFIX = "workload:";
+
+    @Around("@annotation(com.example.db.workload.Workload) || @within(com.example.db.workload.Workload)"
+            + " || @annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || @within(org.springframework.transaction.annotation.Transactional)")
+    public Object applyWorkload(ProceedingJoinPoint joinPoint) throws Throwable {
+        String workload = resolve(joinPoint);
+        if (workload == null) {
+            return joinPoint.proceed();
+        }
+
+        String previous = WorkloadContext.set(workload);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    /**
+     * 메서드에 지정된 값 우선, 없으면 클래스에 지정된 값
+     */
+    private static String resolve(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String workload = resolve(signature.getMethod());
+        return workload != null ? workload : resolve(joinPoint.getTarget().getClass());
+    }
+
+    private static String resolve(AnnotatedElement element) {
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(element, Workload.class);
+        if (workload != null) {
+            return workload.value();
+        }
+
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(element, Transactional.class);
+        if (transactional != null) {
+            for (String label : transactional.label()) {
+                if (label.startsWith(TRANSACTION_LABEL_PREFIX)) {
+                    return label.substring(TRANSACTION_LABEL_PREFIX.length());
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.db.workload;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 workload 이름 보관
+ * 어노테이션을 쓸 수 없는 곳(백그라운드 작업 스레드 등)에서는 call/run으로 직접 지정합니다.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * @return 지정되지 않은 경우 null
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(String workload, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void run(String workload, Runnable action) {
+        call(workload, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    static String set(String workload) {
+        String previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+}
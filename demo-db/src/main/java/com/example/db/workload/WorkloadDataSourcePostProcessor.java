@@ -0,0 +1,144 @@
+package com.example.db.workload;
+
+import com.example.db.deadline.DeadlineHikariDataSource;
+import com.example.db.routing.ReadWriteRoutingDataSource;
+import com.example.db.routing.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * db.workloads.pools 설정이 있으면 기본 dataSource 빈을 WorkloadRoutingDataSource로 감쌈
+ * 단일 풀 / replica 라우팅 구성과 관계없이 기존 dataSource는 workload 미지정 요청의 기본 풀로 남습니다.
+ *
+ * replica 라우팅(db.replica.enabled=true)을 사용하면 workload마다 primary 풀과 replica별 풀을 따로 만들고
+ * ReadWriteRoutingDataSource로 묶어, workload 안에서도 readOnly 트랜잭션은 replica로 갑니다.
+ * 풀 공통 설정은 spring.datasource.hikari.*를 따르고 크기/대기 시간만 workload 설정으로 덮어씁니다.
+ */
+@Slf4j
+@Component
+public class WorkloadDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware, Ordered {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+    private static final String POOL_NAME_PREFIX = "workload-";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * 다른 dataSource 래퍼(query counting 등)보다 먼저 감싸 라우팅이 가장 안쪽에 오도록 함
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+
+        Binder binder = Binder.get(environment);
+        WorkloadProperties properties = binder.bind("db.workloads", WorkloadProperties.class).orElse(null);
+        if (properties == null || properties.getPools().isEmpty()) {
+            return bean;
+        }
+
+        ReadWriteRoutingDataSource replicaRouting = findReplicaRouting(dataSource);
+        ReplicaProperties replicaProperties = replicaRouting == null ? null
+                : binder.bind("db.replica", ReplicaProperties.class).orElseGet(ReplicaProperties::new);
+
+        Map<String, DataSource> lanes = new LinkedHashMap<>();
+        List<HikariDataSource> ownedPools = new ArrayList<>();
+        properties.getPools().forEach((name, pool) -> {
+            HikariDataSource primary = createPool(POOL_NAME_PREFIX + name, pool, null);
+            ownedPools.add(primary);
+            if (replicaRouting == null) {
+                lanes.put(name, primary);
+                return;
+            }
+
+            List<DataSource> replicas = new ArrayList<>();
+            List<ReplicaProperties.Instance> instances = replicaProperties.getInstances();
+            for (int i = 0; i < instances.size(); i++) {
+                HikariDataSource replica = createPool(POOL_NAME_PREFIX + name + "-replica-" + i, pool, instances.get(i));
+                replicas.add(replica);
+                ownedPools.add(replica);
+            }
+            // replica 상태는 기본 라우팅의 lag monitor(같은 replica 순서)를 공유
+            ReadWriteRoutingDataSource laneRouting =
+                    new ReadWriteRoutingDataSource(primary, replicas, replicaRouting.getLagMonitor());
+            laneRouting.afterPropertiesSet();
+            // readOnly 여부가 정해진 뒤(첫 SQL 실행 시) 커넥션을 얻도록 lane마다 지연 proxy 사용
+            lanes.put(name, new LazyConnectionDataSourceProxy(laneRouting));
+        });
+
+        WorkloadRoutingDataSource routingDataSource = new WorkloadRoutingDataSource(dataSource, lanes, ownedPools);
+        routingDataSource.afterPropertiesSet();
+        log.info("Workload connection pools configured: {} (replica routing: {})",
+                lanes.keySet(), replicaRouting != null);
+        return routingDataSource;
+    }
+
+    /**
+     * @param replica replica 풀이면 해당 instance 설정, primary 풀이면 null
+     */
+    private HikariDataSource createPool(String poolName, WorkloadProperties.Pool pool, ReplicaProperties.Instance replica) {
+        HikariDataSource dataSource = new DeadlineHikariDataSource();
+        // idle-timeout, max-lifetime 등 공통 설정
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+
+        dataSource.setPoolName(poolName);
+        dataSource.setDriverClassName(environment.getProperty("spring.datasource.driver-class-name"));
+        if (replica != null) {
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(firstNonNull(replica.getUsername(), environment.getProperty("spring.datasource.username")));
+            dataSource.setPassword(firstNonNull(replica.getPassword(), environment.getProperty("spring.datasource.password")));
+            dataSource.setReadOnly(true);
+        } else {
+            dataSource.setJdbcUrl(firstNonNull(pool.getUrl(), environment.getProperty("spring.datasource.url")));
+            dataSource.setUsername(firstNonNull(pool.getUsername(), environment.getProperty("spring.datasource.username")));
+            dataSource.setPassword(firstNonNull(pool.getPassword(), environment.getProperty("spring.datasource.password")));
+        }
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(Math.min(pool.getMinimumIdle(), pool.getMaximumPoolSize()));
+        dataSource.setConnectionTimeout(pool.getConnectionTimeoutMs());
+        // 풀별 active/idle/대기 스레드 수를 JMX(com.zaxxer.hikari:type=Pool (workload-{name}))로 노출
+        dataSource.setRegisterMbeans(true);
+        return dataSource;
+    }
+
+    private static ReadWriteRoutingDataSource findReplicaRouting(DataSource dataSource) {
+        DataSource current = dataSource;
+        while (current != null) {
+            if (current instanceof ReadWriteRoutingDataSource routing) {
+                return routing;
+            }
+            current = current instanceof DelegatingDataSource delegating ? delegating.getTargetDataSource() : null;
+        }
+        return null;
+    }
+
+    private static String firstNonNull(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.db.workload;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * workload별 커넥션 풀 설정 (db.workloads.*)
+ * url/username/password를 생략하면 spring.datasource 값을 사용합니다.
+ */
+@Getter
+@Setter
+public class WorkloadProperties {
+
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 5;
+        private int minimumIdle = 1;
+        private long connectionTimeoutMs = 3000;
+    }
+}
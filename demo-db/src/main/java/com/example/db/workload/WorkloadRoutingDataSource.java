@@ -0,0 +1,57 @@
+package com.example.db.workload;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WorkloadContext의 이름으로 커넥션 풀을 선택하는 DataSource
+ * 이름이 없거나 설정되지 않은 workload는 기본 DataSource(기존 풀 또는 replica 라우팅)를 사용합니다.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final DataSource defaultDataSource;
+    private final Map<String, DataSource> pools;
+    private final List<? extends AutoCloseable> ownedPools;
+
+    /**
+     * @param pools      workload 이름별 DataSource (단일 풀 또는 primary/replica 라우팅)
+     * @param ownedPools 종료 시 닫을 workload 커넥션 풀
+     */
+    public WorkloadRoutingDataSource(DataSource defaultDataSource, Map<String, DataSource> pools,
+                                     List<? extends AutoCloseable> ownedPools) {
+        this.defaultDataSource = defaultDataSource;
+        this.pools = pools;
+        this.ownedPools = ownedPools;
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(defaultDataSource);
+        // 설정되지 않은 이름은 기본 DataSource로
+        setLenientFallback(true);
+    }
+
+    public Map<String, DataSource> getPools() {
+        return pools;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    /**
+     * 감싼 dataSource 빈의 종료도 함께 처리 (빈 인스턴스가 이 객체로 교체되므로)
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (AutoCloseable pool : ownedPools) {
+            pool.close();
+        }
+        if (defaultDataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.db.config;
+
+import com.example.db.routing.ReadWriteRoutingDataSource;
+import com.example.db.routing.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * replica 풀이 spring.datasource.hikari.* 공통 설정을 따르고 접속 정보 / 크기만 replica 설정으로 덮어쓰는지 확인
+ */
+class ReplicaDataSourceConfigTest {
+
+    @Test
+    void replicaPoolUsesSharedHikariProperties() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.connection-timeout", "1234")
+                .withProperty("spring.datasource.hikari.max-lifetime", "600000")
+                .withProperty("spring.datasource.hikari.idle-timeout", "120000")
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "20");
+
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:replica_config_primary");
+        ReplicaProperties.Instance instance = new ReplicaProperties.Instance();
+        instance.setUrl("jdbc:h2:mem:replica_config_replica");
+        instance.setMaximumPoolSize(3);
+        ReplicaProperties replicaProperties = new ReplicaProperties();
+        replicaProperties.setInstances(List.of(instance));
+
+        ReadWriteRoutingDataSource routing = new ReplicaDataSourceConfig()
+                .routingDataSource(new HikariDataSource(), properties, replicaProperties, environment);
+        routing.afterPropertiesSet();
+        try {
+            HikariDataSource replica = (HikariDataSource) routing.getResolvedDataSources().get(0);
+
+            assertThat(replica.getConnectionTimeout()).isEqualTo(1234);
+            assertThat(replica.getMaxLifetime()).isEqualTo(600000);
+            assertThat(replica.getIdleTimeout()).isEqualTo(120000);
+            assertThat(replica.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(replica.getJdbcUrl()).isEqualTo("jdbc:h2:mem:replica_config_replica");
+            assertThat(replica.getPoolName()).isEqualTo("replica-0");
+            assertThat(replica.isReadOnly()).isTrue();
+        } finally {
+            routing.destroy();
+        }
+    }
+}
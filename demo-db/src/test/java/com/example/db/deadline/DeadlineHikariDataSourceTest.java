@@ -0,0 +1,62 @@
+package com.example.db.deadline;
+
+import com.example.common.deadline.RequestDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 풀이 모두 사용 중일 때 connection-timeout이 아니라 요청 기한의 남은 시간만 기다리는지 확인
+ */
+class DeadlineHikariDataSourceTest {
+
+    private DeadlineHikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DeadlineHikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:deadline_pool");
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setConnectionTimeout(30_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void waitIsBoundedByRemainingDeadline() throws Exception {
+        try (Connection held = dataSource.getConnection();
+             RequestDeadline.Scope ignored = RequestDeadline.start(300)) {
+            long started = System.nanoTime();
+
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTimeoutException.class);
+
+            assertThat((System.nanoTime() - started) / 1_000_000).isLessThan(5_000);
+        }
+    }
+
+    @Test
+    void expiredDeadlineDoesNotBorrow() throws Exception {
+        dataSource.getConnection().close();
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(0)) {
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTimeoutException.class);
+        }
+        assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+    }
+
+    @Test
+    void connectionIsAcquiredWithinDeadline() throws Exception {
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(300);
+             Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+    }
+}
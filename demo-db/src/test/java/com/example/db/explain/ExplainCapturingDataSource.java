@@ -0,0 +1,149 @@
+package com.example.db.explain;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실행되는 SELECT(PreparedStatement)마다 같은 SQL / 같은 파라미터로 EXPLAIN을 먼저 실행해 기록하는 DataSource
+ * Hibernate / MyBatis / JdbcTemplate이 실제로 생성한 SQL의 실행 계획을 확인하므로 테스트에 SQL을 옮겨 적지 않음
+ * 테스트 전용 (MySQL)
+ */
+public class ExplainCapturingDataSource extends DelegatingDataSource {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final List<ExplainedStatement> statements = new CopyOnWriteArrayList<>();
+
+    public ExplainCapturingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return capturing(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return capturing(super.getConnection(username, password));
+    }
+
+    public List<ExplainedStatement> getStatements() {
+        return List.copyOf(statements);
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    /**
+     * 실행된 SELECT와 실행 계획
+     */
+    public record ExplainedStatement(String sql, List<Map<String, Object>> plan) {
+
+        public List<String> fullScans(String... ignoredTables) {
+            return ExplainPlanChecker.fullScans(plan, ignoredTables);
+        }
+
+        public String drivingKey() {
+            return ExplainPlanChecker.drivingKey(plan);
+        }
+
+        @Override
+        public String toString() {
+            return ExplainPlanChecker.format(sql, plan);
+        }
+    }
+
+    /**
+     * 기본 dataSource 빈을 ExplainCapturingDataSource로 감쌈 (@Import로 사용)
+     */
+    public static class PostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource) {
+                return new ExplainCapturingDataSource(dataSource);
+            }
+            return bean;
+        }
+    }
+
+    private Connection capturing(Connection target) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof PreparedStatement statement && "prepareStatement".equals(method.getName())
+                            && isQuery((String) args[0])) {
+                        return capturing(target, statement, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement capturing(Connection connection, PreparedStatement target, String sql) {
+        // 실행 시 EXPLAIN에 그대로 다시 설정할 파라미터 (setString, setBytes 등)
+        List<ParameterCall> parameters = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == PreparedStatement.class && method.getName().startsWith("set")) {
+                        parameters.add(new ParameterCall(method, args));
+                    } else if ("clearParameters".equals(method.getName())) {
+                        parameters.clear();
+                    } else if (isExecute(method, args)) {
+                        statements.add(new ExplainedStatement(sql, explain(connection, sql, parameters)));
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static List<Map<String, Object>> explain(Connection connection, String sql,
+                                                     List<ParameterCall> parameters) throws Throwable {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (ParameterCall parameter : parameters) {
+                invoke(explain, parameter.method(), parameter.args());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                return new RowMapperResultSetExtractor<>(new ColumnMapRowMapper()).extractData(resultSet);
+            }
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("with");
+    }
+
+    private static boolean isExecute(Method method, Object[] args) {
+        return (args == null || args.length == 0)
+                && ("executeQuery".equals(method.getName()) || "execute".equals(method.getName()));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ParameterCall(Method method, Object[] args) {
+    }
+}
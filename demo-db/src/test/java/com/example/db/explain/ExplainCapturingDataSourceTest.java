@@ -0,0 +1,43 @@
+package com.example.db.explain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행된 SELECT만 같은 파라미터로 EXPLAIN되어 기록되는지 확인 (H2의 EXPLAIN은 PLAN 컬럼 1개)
+ */
+class ExplainCapturingDataSourceTest {
+
+    private final ExplainCapturingDataSource dataSource = new ExplainCapturingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:explain_capturing;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS explained (id INT PRIMARY KEY, name VARCHAR(20))");
+        jdbcTemplate.update("MERGE INTO explained KEY (id) VALUES (?, ?)", 1, "first");
+        dataSource.clear();
+    }
+
+    @Test
+    void selectIsExplainedBeforeExecution() {
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM explained WHERE id = ?", String.class, 1))
+                .containsExactly("first");
+
+        assertThat(dataSource.getStatements()).singleElement().satisfies(statement -> {
+            assertThat(statement.sql()).isEqualTo("SELECT name FROM explained WHERE id = ?");
+            assertThat(String.valueOf(statement.plan().get(0).get("PLAN"))).contains("PRIMARY_KEY");
+        });
+    }
+
+    @Test
+    void writesAreNotExplained() {
+        jdbcTemplate.update("UPDATE explained SET name = ? WHERE id = ?", "updated", 1);
+
+        assertThat(dataSource.getStatements()).isEmpty();
+    }
+}
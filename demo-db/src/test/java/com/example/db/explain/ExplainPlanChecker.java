@@ -0,0 +1,72 @@
+package com.example.db.explain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MySQL EXPLAIN 결과에서 전체 테이블 스캔(type = ALL) 확인 (각 모듈의 실행 계획 테스트에서 사용)
+ * WITH RECURSIVE의 재귀 참조나 파생 테이블(&lt;derived…&gt;)처럼 원래 전체를 읽는 임시 결과는 제외합니다.
+ * 애플리케이션이 생성한 SQL의 실행 계획은 ExplainCapturingDataSource로 수집합니다.
+ */
+public class ExplainPlanChecker {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExplainPlanChecker(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 데이터가 거의 없으면 옵티마이저가 인덱스 대신 전체 스캔을 고를 수 있으므로 데이터 적재 후 통계 갱신
+     */
+    public void analyze(String... tables) {
+        jdbcTemplate.queryForList("ANALYZE TABLE " + String.join(", ", tables));
+    }
+
+    public List<Map<String, Object>> explain(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql);
+    }
+
+    /**
+     * @param ignoredTables 전체 스캔을 허용할 table 별칭 (재귀 CTE 참조 등)
+     * @return 전체 스캔하는 table 별칭 목록 (없으면 빈 목록)
+     */
+    public static List<String> fullScans(List<Map<String, Object>> plan, String... ignoredTables) {
+        Set<String> ignored = Set.of(ignoredTables);
+        List<String> scans = new ArrayList<>();
+        for (Map<String, Object> row : plan) {
+            String table = String.valueOf(row.get("table"));
+            if ("ALL".equals(row.get("type")) && !table.startsWith("<") && !ignored.contains(table)) {
+                scans.add(table);
+            }
+        }
+        return scans;
+    }
+
+    /**
+     * 검색 조건이 원하는 인덱스에서 range로 시작하는지 확인할 때 사용
+     * join이면 EXPLAIN의 첫 행이 먼저 읽는(driving) table (Hibernate가 생성한 table 별칭과 관계없이 확인)
+     *
+     * @return 첫 table이 사용한 인덱스 이름 (인덱스를 사용하지 않으면 null)
+     */
+    public static String drivingKey(List<Map<String, Object>> plan) {
+        if (plan.isEmpty()) {
+            return null;
+        }
+        Object key = plan.get(0).get("key");
+        return key == null ? null : String.valueOf(key);
+    }
+
+    /**
+     * 실패 메시지용 EXPLAIN 전체 결과
+     */
+    public static String format(String sql, List<Map<String, Object>> plan) {
+        StringBuilder formatted = new StringBuilder(sql.strip()).append('\n');
+        plan.forEach(row -> formatted.append(row).append('\n'));
+        return formatted.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.db.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * statement 태그 수가 리터럴 / IN 목록 길이에 따라 늘어나지 않는지 확인
+ */
+class StatementMetricsTest {
+
+    @Test
+    void literalsAndInListsShareOneTemplate() {
+        StatementMetrics metrics = new StatementMetrics(new DbMetricsProperties());
+
+        String first = metrics.toTag("select m1_0.menu_id from tbl_menu m1_0 where m1_0.name = 'a' and m1_0.sort > 10 and m1_0.menu_id in (?, ?)");
+        String second = metrics.toTag("select m1_0.menu_id from tbl_menu m1_0 where m1_0.name = 'it''s' and m1_0.sort > -3.5 and m1_0.menu_id in (?,?,?,?)");
+
+        assertThat(first)
+                .isEqualTo(second)
+                .isEqualTo("select m1_0.menu_id from tbl_menu m1_0 where m1_0.name = ? and m1_0.sort > ? and m1_0.menu_id in (?)");
+    }
+
+    @Test
+    void longTemplatesAreTruncatedWithHash() {
+        DbMetricsProperties properties = new DbMetricsProperties();
+        properties.setMaxStatementTagLength(40);
+        StatementMetrics metrics = new StatementMetrics(properties);
+        String prefix = "select u.user_id, u.email, u.name, u.phone from tbl_user u where ";
+
+        String first = metrics.toTag(prefix + "u.email = ?");
+        String second = metrics.toTag(prefix + "u.phone = ?");
+
+        assertThat(first).hasSize(40).isNotEqualTo(second);
+        assertThat(second).hasSize(40);
+    }
+
+    @Test
+    void newStatementsBeyondLimitAreRecordedAsOther() {
+        DbMetricsProperties properties = new DbMetricsProperties();
+        properties.setMaxStatementTags(2);
+        StatementMetrics metrics = new StatementMetrics(properties);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+
+        for (int i = 0; i < 5; i++) {
+            metrics.record(StatementMetrics.SOURCE_HIBERNATE, "select * from tbl_" + (char) ('a' + i), 1_000, 1);
+        }
+        metrics.record(StatementMetrics.SOURCE_HIBERNATE, "select * from tbl_a", 1_000, 1);
+
+        assertThat(registry.find("db.statement").timers())
+                .extracting(timer -> timer.getId().getTag("statement"))
+                .containsExactlyInAnyOrder("select * from tbl_a", "select * from tbl_b", StatementMetrics.OTHER_STATEMENT);
+        assertThat(registry.get("db.statement").tag("statement", "select * from tbl_a").timer().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.db.purge;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관 기간이 지난 soft delete 행을 PK keyset batch로 archive에 옮기고 삭제하는지 확인 (MySQL 8, Docker가 없으면 건너뜀)
+ * - batch 실패 시 행 단위로 다시 처리해 FK로 참조 중인 행만 남기는지
+ * - 다른 인스턴스가 lock을 잡고 있으면 건너뛰는지
+ * id 1~20: 홀수는 보관 기간이 지난 삭제, 4의 배수는 최근 삭제, 나머지는 사용 중
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SoftDeletePurgeJobTest {
+
+    private static final String TABLE = "purge_parent";
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Object> events = new ArrayList<>();
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SoftDeletePurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS purge_child");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS purge_parent_archive");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS purge_parent");
+        jdbcTemplate.execute("""
+                CREATE TABLE purge_parent (
+                    id         BIGINT PRIMARY KEY,
+                    name       VARCHAR(20) NOT NULL,
+                    del_yn     CHAR(1)     NOT NULL,
+                    deleted_at DATETIME    NULL,
+                    KEY idx_purge_parent_deleted (del_yn, deleted_at)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE purge_parent_archive (
+                    id          BIGINT PRIMARY KEY,
+                    name        VARCHAR(20) NOT NULL,
+                    del_yn      CHAR(1)     NOT NULL,
+                    deleted_at  DATETIME    NULL,
+                    archived_at DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE purge_child (
+                    id        BIGINT PRIMARY KEY,
+                    parent_id BIGINT NOT NULL,
+                    CONSTRAINT fk_purge_child_parent FOREIGN KEY (parent_id) REFERENCES purge_parent (id)
+                )
+                """);
+        for (long id = 1; id <= 20; id++) {
+            String deletedAt = id % 2 == 1 ? "NOW() - INTERVAL 60 DAY" : id % 4 == 0 ? "NOW() - INTERVAL 1 DAY" : "NULL";
+            jdbcTemplate.update("INSERT INTO purge_parent VALUES (?, ?, ?, " + deletedAt + ")",
+                    id, "row-" + id, "NULL".equals(deletedAt) ? "N" : "Y");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (job != null) {
+            job.close();
+        }
+    }
+
+    @Test
+    void expiredRowsAreArchivedInKeysetBatches() {
+        job = job(3, 2);
+
+        // batch 2개(3건씩)만 처리하고 나머지는 다음 실행에서 이어서 처리
+        job.runOnce();
+        assertThat(archivedIds()).containsExactly(1L, 3L, 5L, 7L, 9L, 11L);
+
+        job.runOnce();
+        assertThat(archivedIds()).containsExactly(1L, 3L, 5L, 7L, 9L, 11L, 13L, 15L, 17L, 19L);
+        // 최근 삭제 / 사용 중인 행은 남음
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM purge_parent ORDER BY id", Long.class))
+                .containsExactly(2L, 4L, 6L, 8L, 10L, 12L, 14L, 16L, 18L, 20L);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM purge_parent_archive WHERE id = 7", String.class))
+                .isEqualTo("row-7");
+
+        assertThat(rows("archived")).isEqualTo(10);
+        assertThat(events).containsExactly(new SoftDeletePurgedEvent(TABLE, 6), new SoftDeletePurgedEvent(TABLE, 4));
+    }
+
+    @Test
+    void referencedRowIsLeftWhileRestOfBatchIsArchived() {
+        jdbcTemplate.update("INSERT INTO purge_child VALUES (1, 5)");
+        job = job(20, 10);
+
+        job.runOnce();
+
+        assertThat(archivedIds()).containsExactly(1L, 3L, 7L, 9L, 11L, 13L, 15L, 17L, 19L);
+        assertThat(jdbcTemplate.queryForObject("SELECT del_yn FROM purge_parent WHERE id = 5", String.class))
+                .isEqualTo("Y");
+        assertThat(rows("archived")).isEqualTo(9);
+        assertThat(rows("failed")).isEqualTo(1);
+        assertThat(runs("completed")).isEqualTo(1);
+    }
+
+    @Test
+    void runIsSkippedWhileAnotherInstanceHoldsLock() throws Exception {
+        job = job(20, 10);
+        SingleConnectionDataSource otherInstance = new SingleConnectionDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword(), true);
+        JdbcTemplate lockHolder = new JdbcTemplate(otherInstance);
+        try {
+            assertThat(lockHolder.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, "db-soft-delete-purge"))
+                    .isOne();
+
+            job.runOnce();
+
+            assertThat(archivedIds()).isEmpty();
+            assertThat(runs("skipped")).isEqualTo(1);
+            assertThat(events).isEmpty();
+        } finally {
+            lockHolder.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, "db-soft-delete-purge");
+            otherInstance.destroy();
+        }
+
+        // lock이 풀리면 다음 실행에서 처리
+        job.runOnce();
+        assertThat(archivedIds()).hasSize(10);
+    }
+
+    private SoftDeletePurgeJob job(int batchSize, int maxBatchesPerRun) {
+        PurgeProperties.Table table = new PurgeProperties.Table();
+        table.setName(TABLE);
+        table.setIdColumn("id");
+        PurgeProperties properties = new PurgeProperties();
+        // 스케줄 실행 대신 runOnce를 직접 호출
+        properties.setInitialDelayMs(Long.MAX_VALUE);
+        properties.setBatchSize(batchSize);
+        properties.setMaxBatchesPerRun(maxBatchesPerRun);
+        properties.setPauseMs(0);
+        properties.setTables(List.of(table));
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return new SoftDeletePurgeJob(dataSource, properties, beans.getBeanProvider(MeterRegistry.class),
+                beans.getBeanProvider(EntityManagerFactory.class), events::add);
+    }
+
+    private List<Long> archivedIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM purge_parent_archive ORDER BY id", Long.class);
+    }
+
+    private double rows(String outcome) {
+        return meterRegistry.counter("db.purge.rows", "table", TABLE, "outcome", outcome).count();
+    }
+
+    private double runs(String result) {
+        return meterRegistry.counter("db.purge.runs", "result", result).count();
+    }
+}
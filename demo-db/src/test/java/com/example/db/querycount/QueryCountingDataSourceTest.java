@@ -0,0 +1,84 @@
+package com.example.db.querycount;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PreparedStatement는 준비 시 1건, 일반 Statement는 실행마다 1건으로 집계되고 중첩 scope는 바깥에도 함께 집계되는지 확인
+ */
+class QueryCountingDataSourceTest {
+
+    private final DataSource dataSource = new QueryCountingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:query_counting;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    @BeforeEach
+    void setUp() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS counted (id INT)");
+        }
+    }
+
+    @Test
+    void preparedStatementIsCountedOnceWhenPrepared() throws Exception {
+        try (QueryCounter.Scope scope = QueryCounter.start("prepared");
+             Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM counted WHERE id = ?")) {
+            for (int i = 0; i < 3; i++) {
+                statement.setInt(1, i);
+                statement.executeQuery().close();
+            }
+
+            assertThat(scope.getCount()).isOne();
+            assertThat(scope.getStatements().get(0).sql()).isEqualTo("SELECT COUNT(*) FROM counted WHERE id = ?");
+        }
+    }
+
+    @Test
+    void plainStatementIsCountedPerExecution() throws Exception {
+        try (QueryCounter.Scope scope = QueryCounter.start("plain");
+             Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT COUNT(*) FROM counted").close();
+            statement.addBatch("INSERT INTO counted VALUES (1)");
+            statement.addBatch("INSERT INTO counted VALUES (2)");
+            // addBatch에서 이미 집계됨
+            statement.executeBatch();
+
+            assertThat(scope.getCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void nestedScopeIsAlsoCountedInOuterScope() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            // scope 밖에서 실행된 statement는 집계되지 않음
+            statement.execute("SELECT 1");
+
+            try (QueryCounter.Scope outer = QueryCounter.start("outer")) {
+                statement.execute("SELECT 1");
+                try (QueryCounter.Scope inner = QueryCounter.start("inner")) {
+                    statement.execute("SELECT 2");
+                    statement.execute("SELECT 3");
+                    assertThat(inner.getCount()).isEqualTo(2);
+                }
+                statement.execute("SELECT 4");
+
+                assertThat(outer.getCount()).isEqualTo(4);
+                assertThatThrownBy(() -> outer.assertAtMost(3))
+                        .isInstanceOf(QueryBudgetExceededException.class)
+                        .hasMessageContaining("outer executed 4 statements (max 3)");
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.db.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 DB 3개(primary, replica 2개)로 라우팅 확인
+ * readOnly는 replica, 쓰기는 primary, 지연/복제 중단된 replica는 제외하고 모두 제외되면 primary로 보냄
+ * 각 replica의 복제 상태는 replica_status 테이블 값으로 흉내냄 (SHOW REPLICA STATUS 대신 조회)
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final long MAX_LAG_SECONDS = 5;
+
+    private final DataSource primary = instance("primary");
+    private final DataSource replica0 = instance("replica0");
+    private final DataSource replica1 = instance("replica1");
+
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReadWriteRoutingDataSource(primary, List.of(replica0, replica1),
+                new ReplicaLagMonitor(List.of(replica0, replica1), MAX_LAG_SECONDS, 20));
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        awaitRouting(() -> routing.getLagMonitor().isHealthy(0) && routing.getLagMonitor().isHealthy(1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routing.destroy();
+    }
+
+    @Test
+    void readOnlyGoesToReplicasAndWritesToPrimary() {
+        assertThat(List.of(readOnlyInstance(), readOnlyInstance())).containsExactlyInAnyOrder("replica0", "replica1");
+
+        String written = writeTx.execute(status -> {
+            jdbcTemplate.update("UPDATE instance_info SET writes = writes + 1");
+            return currentInstance();
+        });
+        assertThat(written).isEqualTo("primary");
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT writes FROM instance_info", Integer.class)).isOne();
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() {
+        setLag(replica0, MAX_LAG_SECONDS + 10);
+        awaitRouting(() -> !routing.getLagMonitor().isHealthy(0));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(readOnlyInstance()).isEqualTo("replica1");
+        }
+    }
+
+    @Test
+    void readOnlyFallsBackToPrimaryWhenNoReplicaIsHealthy() {
+        setLag(replica0, MAX_LAG_SECONDS + 10);
+        // 복제 중단 (Seconds_Behind_Source = NULL)
+        setLag(replica1, null);
+        awaitRouting(() -> !routing.getLagMonitor().isHealthy(0) && !routing.getLagMonitor().isHealthy(1));
+
+        assertThat(readOnlyInstance()).isEqualTo("primary");
+
+        setLag(replica1, 0L);
+        awaitRouting(() -> routing.getLagMonitor().isHealthy(1));
+        assertThat(readOnlyInstance()).isEqualTo("replica1");
+    }
+
+    private String readOnlyInstance() {
+        return readOnlyTx.execute(status -> currentInstance());
+    }
+
+    private String currentInstance() {
+        return jdbcTemplate.queryForObject("SELECT name FROM instance_info", String.class);
+    }
+
+    private static void setLag(DataSource replica, Long lagSeconds) {
+        new JdbcTemplate(replica).update("UPDATE replica_status SET seconds_behind_source = ?", lagSeconds);
+    }
+
+    private static void awaitRouting(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("replica health check").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 이름 / 복제 상태 테이블을 가진 H2 DB, SHOW REPLICA STATUS는 replica_status 조회로 바꿔 실행
+     */
+    private static DataSource instance(String name) {
+        DataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(h2);
+        setup.execute("DROP TABLE IF EXISTS instance_info");
+        setup.execute("DROP TABLE IF EXISTS replica_status");
+        setup.execute("CREATE TABLE instance_info (name VARCHAR(20), writes INT)");
+        setup.update("INSERT INTO instance_info VALUES (?, 0)", name);
+        setup.execute("CREATE TABLE replica_status (seconds_behind_source BIGINT)");
+        setup.update("INSERT INTO replica_status VALUES (0)");
+
+        return new DelegatingDataSource(h2) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection target = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            Object result = invoke(target, method, args);
+                            return result instanceof Statement statement && "createStatement".equals(method.getName())
+                                    ? replicaStatusStatement(statement) : result;
+                        });
+            }
+        };
+    }
+
+    private static Statement replicaStatusStatement(Statement target) {
+        return (Statement) Proxy.newProxyInstance(ReadWriteRoutingDataSourceTest.class.getClassLoader(),
+                new Class<?>[]{Statement.class},
+                (proxy, method, args) -> {
+                    if ("executeQuery".equals(method.getName()) && "SHOW REPLICA STATUS".equals(args[0])) {
+                        return target.executeQuery("SELECT seconds_behind_source AS Seconds_Behind_Source FROM replica_status");
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
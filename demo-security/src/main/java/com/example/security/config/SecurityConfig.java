@@ -1,9 +1,12 @@
 package com.example.security.config;
 
+import com.example.security.crypto.BCryptStrengthCalibrator;
 import com.example.security.jwt.JwtAccessDeniedHandler;
 import com.example.security.jwt.JwtAuthenticationEntryPoint;
 import com.example.security.jwt.JwtAuthenticationFilter;
+import com.example.security.limit.ConcurrencyLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,24 +16,44 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final CorsConfigurationSource corsConfigurationSource;
+
+    /**
+     * 비밀번호 인코더
+     * 저장 형식은 {bcrypt} 접두어가 붙은 DelegatingPasswordEncoder 형식이며,
+     * 접두어가 없는 기존 해시도 BCrypt로 검증합니다.
+     * strength를 지정하지 않으면(-1) hash-budget-ms 기준으로 자동 산정합니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:-1}") int strength,
+            @Value("${security.password.hash-budget-ms:250}") long hashBudgetMillis) {
+        int bcryptStrength = strength > 0 ? strength : BCryptStrengthCalibrator.calibrate(hashBudgetMillis);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 
     @Bean
@@ -56,10 +79,15 @@ public class SecurityConfig {
                         .requestMatchers("/css/**", "/js/**", "/images/**", "/webjars/**", "/favicon.ico").permitAll()
                         .requestMatchers("/api/v1/demo/auth/sign/**").permitAll()
                         .requestMatchers("/api/v1/demo/public/**").permitAll()
+                        // actuator (메트릭은 관리자만)
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 인증 결과로 우선순위를 정하므로 JWT 필터 다음에서 동시 처리 한도 적용
+                .addFilterAfter(concurrencyLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
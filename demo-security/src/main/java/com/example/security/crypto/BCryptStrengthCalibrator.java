@@ -0,0 +1,53 @@
+package com.example.security.crypto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 서버 성능에 맞춰 BCrypt cost(strength)를 결정하는 유틸리티 클래스
+ * 해시 1회가 목표 시간(latency budget)을 넘지 않는 가장 높은 strength를 선택
+ */
+@Slf4j
+public class BCryptStrengthCalibrator {
+
+    /** Spring Security 기본값이며, 이보다 낮게 내려가지 않음 */
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptStrengthCalibrator() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 목표 시간 내에서 사용할 수 있는 BCrypt strength 계산
+     * strength가 1 증가할 때마다 해시 시간은 약 2배가 됨
+     *
+     * @param budgetMillis 해시 1회 목표 시간 (ms)
+     * @return MIN_STRENGTH ~ MAX_STRENGTH 범위의 strength
+     */
+    public static int calibrate(long budgetMillis) {
+        int strength = MIN_STRENGTH;
+        long elapsed = measure(strength);
+
+        while (strength < MAX_STRENGTH && elapsed * 2 <= budgetMillis) {
+            strength++;
+            elapsed = measure(strength);
+        }
+
+        log.info("BCrypt strength calibrated: strength={}, hashMillis={}, budgetMillis={}",
+                strength, elapsed, budgetMillis);
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        // 첫 호출은 JIT 워밍업 용도로 버림
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
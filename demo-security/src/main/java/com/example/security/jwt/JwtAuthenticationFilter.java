@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,6 +28,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectProvider<SessionValidator> sessionValidator;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -48,7 +50,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token) && isSessionActive(token)) {
             Authentication authentication = jwtTokenProvider.getAuthentication(token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
             log.debug("Set Authentication to security context for '{}', uri: {}", authentication.getName(), request.getRequestURI());
@@ -59,6 +61,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 로그아웃/세션 폐기 이후의 access token은 만료 전이라도 인증하지 않음
+     */
+    private boolean isSessionActive(String token) {
+        SessionValidator validator = sessionValidator.getIfAvailable();
+        if (validator == null) {
+            return true;
+        }
+        String email = jwtTokenProvider.getEmailFromToken(token);
+        if (validator.isActive(email, jwtTokenProvider.getIssuedAtFromToken(token))) {
+            return true;
+        }
+        log.debug("Login session no longer active for '{}'", email);
+        return false;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         // 1. Authorization 헤더에서 토큰 추출 시도
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
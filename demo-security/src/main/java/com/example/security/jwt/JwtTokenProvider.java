@@ -23,6 +23,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -47,14 +48,16 @@ public class JwtTokenProvider {
     }
 
     public String createAccessToken(String email, String userId, Collection<? extends GrantedAuthority> authorities) {
-        return createToken(email, userId, authorities, accessTokenValidity);
+        return createToken(email, userId, authorities, accessTokenValidity, null);
     }
 
     public String createRefreshToken(String email) {
-        return createToken(email, null, null, refreshTokenValidity);
+        // 같은 시각에 발급돼도 토큰이 구분되도록 jti 부여 (refresh token 교체/재사용 감지용)
+        return createToken(email, null, null, refreshTokenValidity, UUID.randomUUID().toString());
     }
 
-    private String createToken(String email, String userId, Collection<? extends GrantedAuthority> authorities, long validity) {
+    private String createToken(String email, String userId, Collection<? extends GrantedAuthority> authorities,
+                               long validity, String tokenId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + validity);
 
@@ -64,6 +67,10 @@ public class JwtTokenProvider {
                 .expiration(expiryDate)
                 .signWith(key);
 
+        if (tokenId != null) {
+            builder.id(tokenId);
+        }
+
         if (userId != null) {
             builder.claim("userId", userId);
         }
@@ -128,6 +135,11 @@ public class JwtTokenProvider {
         return claims.getSubject();
     }
 
+    public Date getIssuedAtFromToken(String token) {
+        Claims claims = parseClaims(token);
+        return claims.getIssuedAt();
+    }
+
     public String getUserIdFromToken(String token) {
         Claims claims = parseClaims(token);
         return (String) claims.get("userId");
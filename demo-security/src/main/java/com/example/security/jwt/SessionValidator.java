@@ -0,0 +1,17 @@
+package com.example.security.jwt;
+
+import java.util.Date;
+
+/**
+ * access token의 로그인 세션이 아직 유효한지 확인 (JwtAuthenticationFilter가 요청마다 호출)
+ * 빈이 없으면 서명/만료만 확인합니다.
+ */
+public interface SessionValidator {
+
+    /**
+     * @param email    토큰 subject
+     * @param issuedAt 토큰 발급 시각
+     * @return 로그아웃/폐기되었거나 이후 다시 로그인하여 무효화된 세션이면 false
+     */
+    boolean isActive(String email, Date issuedAt);
+}
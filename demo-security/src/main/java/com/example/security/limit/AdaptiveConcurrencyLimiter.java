@@ -0,0 +1,182 @@
+package com.example.security.limit;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간 기반 동시 처리 한도 (TCP Vegas 방식)
+ *
+ * window마다 최소 응답 시간을 부하 없는 기준 응답 시간(noLoadRtt)과 비교해 대기열 길이를 추정하고
+ * (queue = limit × (1 - noLoadRtt / windowMinRtt)), 대기열이 짧으면 한도를 늘리고 길면 줄입니다.
+ * window 안에 503/504나 예외로 끝난 요청이 있으면 한도에 backoff-ratio를 곱해 빠르게 줄입니다.
+ * 기준 응답 시간은 rtt-reset-windows마다 다시 측정해 데이터 증가 등으로 느려진 상태에도 맞춰집니다.
+ *
+ * 우선순위별 사용 가능 한도: CRITICAL = limit, NORMAL = limit × normal-share, LOW = limit × low-share
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    @Value("${security.concurrency-limit.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${security.concurrency-limit.min-limit:4}")
+    private int minLimit;
+
+    @Value("${security.concurrency-limit.max-limit:200}")
+    private int maxLimit;
+
+    /** 새 한도 반영 비율 (0~1, 작을수록 천천히 변함) */
+    @Value("${security.concurrency-limit.smoothing:1.0}")
+    private double smoothing;
+
+    /** 과부하 실패가 있던 window 이후 한도 배율 */
+    @Value("${security.concurrency-limit.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${security.concurrency-limit.window-ms:1000}")
+    private long windowMillis;
+
+    @Value("${security.concurrency-limit.min-window-samples:10}")
+    private int minWindowSamples;
+
+    @Value("${security.concurrency-limit.rtt-reset-windows:60}")
+    private int rttResetWindows;
+
+    @Value("${security.concurrency-limit.normal-share:0.9}")
+    private double normalShare;
+
+    @Value("${security.concurrency-limit.low-share:0.7}")
+    private double lowShare;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // window 집계 (this로 동기화)
+    private long windowStartNanos;
+    private long windowMinRtt = Long.MAX_VALUE;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+    private long noLoadRtt;
+    private int windowsSinceRttReset;
+
+    @PostConstruct
+    public void init() {
+        this.limit = initialLimit;
+        this.windowStartNanos = System.nanoTime();
+        log.info("Adaptive concurrency limit started: initial={}, min={}, max={}", initialLimit, minLimit, maxLimit);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 처리 슬롯 확보, 성공하면 처리 후 반드시 release 호출
+     *
+     * @return 우선순위별 한도를 넘으면 false
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int max = maxInFlight(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param rttNanos 처리 시간
+     * @param dropped  과부하로 실패한 요청(503/504, 예외) 여부
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        sample(rttNanos, current, dropped);
+    }
+
+    private int maxInFlight(RequestPriority priority) {
+        double current = limit;
+        return switch (priority) {
+            case CRITICAL -> (int) current;
+            case NORMAL -> Math.max(1, (int) (current * normalShare));
+            case LOW -> Math.max(1, (int) (current * lowShare));
+        };
+    }
+
+    private synchronized void sample(long rttNanos, int inFlightAtEnd, boolean dropped) {
+        if (dropped) {
+            windowDropped = true;
+        } else {
+            windowMinRtt = Math.min(windowMinRtt, rttNanos);
+        }
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtEnd);
+
+        long now = System.nanoTime();
+        if (now - windowStartNanos < TimeUnit.MILLISECONDS.toNanos(windowMillis) || windowSamples < minWindowSamples) {
+            return;
+        }
+        updateLimit();
+
+        windowStartNanos = now;
+        windowMinRtt = Long.MAX_VALUE;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    private void updateLimit() {
+        double current = limit;
+        double step = Math.max(1, Math.log10(current));
+        double newLimit;
+
+        if (windowDropped || windowMinRtt == Long.MAX_VALUE) {
+            newLimit = current * backoffRatio;
+        } else {
+            if (noLoadRtt == 0 || windowMinRtt < noLoadRtt || ++windowsSinceRttReset >= rttResetWindows) {
+                noLoadRtt = windowMinRtt;
+                windowsSinceRttReset = 0;
+            }
+
+            double queueSize = current * (1 - (double) noLoadRtt / windowMinRtt);
+            double alpha = 3 * step;
+            double beta = 6 * step;
+            if (queueSize <= step) {
+                newLimit = current + beta;
+            } else if (queueSize < alpha) {
+                newLimit = current + step;
+            } else if (queueSize > beta) {
+                newLimit = current - step;
+            } else {
+                return;
+            }
+
+            // 한도의 절반도 쓰지 않는 동안에는 응답 시간이 한도의 적정성을 보여주지 않으므로 늘리지 않음
+            if (newLimit > current && windowMaxInFlight * 2 < current) {
+                return;
+            }
+        }
+
+        double smoothed = (1 - smoothing) * current + smoothing * newLimit;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+        if ((int) limit != (int) current) {
+            log.debug("Concurrency limit {} -> {} (noLoadRttMs={}, windowMinRttMs={}, dropped={})",
+                    (int) current, (int) limit, TimeUnit.NANOSECONDS.toMillis(noLoadRtt),
+                    windowMinRtt == Long.MAX_VALUE ? -1 : TimeUnit.NANOSECONDS.toMillis(windowMinRtt), windowDropped);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.security.limit;
+
+import com.example.common.dto.ApiResponse;
+import com.example.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 동시 처리 한도 초과 요청을 바로 503 + Retry-After로 거절
+ *
+ * Tomcat 대기열에 쌓여 시간 초과로 끝나기 전에 한도(AdaptiveConcurrencyLimiter)를 넘는 요청을 먼저 버립니다.
+ * 인증 정보로 우선순위를 정하므로 SecurityConfig에서 JwtAuthenticationFilter 다음에 둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${security.concurrency-limit.enabled:true}")
+    private boolean enabled;
+
+    /** 로그인 / 토큰 발급 경로 (인증 전이어도 CRITICAL) */
+    @Value("${security.concurrency-limit.priority-paths:/login,/api/v1/demo/auth/sign/**}")
+    private List<String> priorityPaths;
+
+    /** 제한하지 않는 경로 (헬스 체크 등) */
+    @Value("${security.concurrency-limit.excluded-paths:/actuator/**}")
+    private List<String> excludedPaths;
+
+    @Value("${security.concurrency-limit.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || matchesAny(excludedPaths, request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestPriority priority = priorityOf(request);
+        if (!limiter.tryAcquire(priority)) {
+            reject(request, response, priority);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            int status = response.getStatus();
+            dropped = status == HttpServletResponse.SC_SERVICE_UNAVAILABLE
+                    || status == HttpServletResponse.SC_GATEWAY_TIMEOUT;
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    private RequestPriority priorityOf(HttpServletRequest request) {
+        if (matchesAny(priorityPaths, request.getRequestURI())) {
+            return RequestPriority.CRITICAL;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return RequestPriority.LOW;
+        }
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+        return admin ? RequestPriority.CRITICAL : RequestPriority.NORMAL;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RequestPriority priority) throws IOException {
+        log.debug("Request rejected by concurrency limit: priority={}, limit={}, inFlight={}, uri: {}",
+                priority, limiter.getLimit(), limiter.getInFlight(), request.getRequestURI());
+
+        ErrorCode errorCode = ErrorCode.SERVICE_UNAVAILABLE;
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.error(errorCode.getMessage())));
+    }
+
+    private boolean matchesAny(List<String> patterns, String requestURI) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, requestURI)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.security.limit;
+
+/**
+ * 동시 처리 한도 배분 우선순위
+ * 낮은 우선순위는 한도의 일부만 사용할 수 있어, 과부하 시 높은 우선순위 요청이 들어올 자리가 남습니다.
+ */
+public enum RequestPriority {
+    /** 로그인 / 토큰 발급, 관리자 */
+    CRITICAL,
+    /** 인증된 사용자 */
+    NORMAL,
+    /** 익명 요청 (공개 조회 등) */
+    LOW
+}
@@ -0,0 +1,86 @@
+package com.example.security.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션이 끝난(로그아웃/폐기) access token은 만료 전이라도 인증되지 않는지 확인
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final String EMAIL = "filter@example.com";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+    private final SessionValidator sessionValidator = mock(SessionValidator.class);
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret",
+                "test-secret-key-minimum-256-bits-for-hs512-algorithm-test-secret-key-value");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenValidity", 60_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidity", 600_000L);
+        jwtTokenProvider.init();
+        accessToken = jwtTokenProvider.createAccessToken(EMAIL, "user-1", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void activeSessionIsAuthenticated() throws Exception {
+        when(sessionValidator.isActive(eq(EMAIL), any())).thenReturn(true);
+
+        filter(sessionValidator).doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    void endedSessionIsNotAuthenticated() throws Exception {
+        when(sessionValidator.isActive(eq(EMAIL), any())).thenReturn(false);
+
+        filter(sessionValidator).doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void withoutValidatorOnlySignatureIsChecked() throws Exception {
+        filter(null).doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(EMAIL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private JwtAuthenticationFilter filter(SessionValidator validator) {
+        ObjectProvider<SessionValidator> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(validator);
+        return new JwtAuthenticationFilter(jwtTokenProvider, provider);
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/demo/auth/me");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        return request;
+    }
+}
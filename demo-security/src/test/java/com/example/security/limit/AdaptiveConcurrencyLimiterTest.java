@@ -0,0 +1,131 @@
+package com.example.security.limit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * window 응답 시간 / 실패 여부에 따른 한도 변화와 우선순위별 한도 확인
+ * window-ms = 0으로 두어 min-window-samples개 요청마다 window가 끝나도록 함 (시간과 무관하게 결정적)
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    // min-limit 이하로 두어 한도가 최소일 때도 window를 채울 수 있도록 함
+    private static final int WINDOW_SAMPLES = 4;
+    private static final long BASE_RTT_MILLIS = 10;
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = limiter();
+    }
+
+    @Test
+    void limitGrowsWhileRttStaysFlat() {
+        int previous = limiter.getLimit();
+        for (int i = 0; i < 3; i++) {
+            window(BASE_RTT_MILLIS, false);
+
+            assertThat(limiter.getLimit()).isGreaterThan(previous);
+            previous = limiter.getLimit();
+        }
+    }
+
+    @Test
+    void limitDoesNotGrowWhileMostlyIdle() {
+        // 한도 20 중 1개만 사용
+        for (int i = 0; i < WINDOW_SAMPLES; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(BASE_RTT_MILLIS), false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void limitShrinksWhenQueueGrows() {
+        window(BASE_RTT_MILLIS, false);
+        int beforeQueueing = limiter.getLimit();
+
+        // 기준 응답 시간의 3배 → 추정 대기열 = limit × 2/3
+        window(BASE_RTT_MILLIS * 3, false);
+        int afterFirst = limiter.getLimit();
+        window(BASE_RTT_MILLIS * 3, false);
+
+        assertThat(afterFirst).isLessThan(beforeQueueing);
+        assertThat(limiter.getLimit()).isLessThan(afterFirst);
+    }
+
+    @Test
+    void droppedWindowBacksOff() {
+        window(BASE_RTT_MILLIS, false);
+        int beforeDrop = limiter.getLimit();
+
+        window(BASE_RTT_MILLIS, true);
+
+        // backoff-ratio 0.9
+        assertThat(limiter.getLimit()).isLessThan(beforeDrop).isGreaterThanOrEqualTo((int) (beforeDrop * 0.9));
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        for (int i = 0; i < 30; i++) {
+            window(BASE_RTT_MILLIS, true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void lowPriorityIsRejectedBeforeCritical() {
+        // limit 20 → LOW 14, NORMAL 18, CRITICAL 20
+        for (int i = 0; i < 14; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.LOW)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(RequestPriority.LOW)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+
+        // in-flight 16: NORMAL은 18까지
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(20);
+    }
+
+    /**
+     * 현재 한도만큼 처리 중인 상태에서 요청 WINDOW_SAMPLES개를 같은 응답 시간으로 완료
+     */
+    private void window(long rttMillis, boolean dropped) {
+        while (limiter.tryAcquire(RequestPriority.CRITICAL)) {
+            // 한도까지 채움
+        }
+        for (int i = 0; i < WINDOW_SAMPLES; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), dropped);
+        }
+    }
+
+    static AdaptiveConcurrencyLimiter limiter() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter();
+        ReflectionTestUtils.setField(limiter, "initialLimit", 20);
+        ReflectionTestUtils.setField(limiter, "minLimit", 4);
+        ReflectionTestUtils.setField(limiter, "maxLimit", 200);
+        ReflectionTestUtils.setField(limiter, "smoothing", 1.0);
+        ReflectionTestUtils.setField(limiter, "backoffRatio", 0.9);
+        ReflectionTestUtils.setField(limiter, "windowMillis", 0L);
+        ReflectionTestUtils.setField(limiter, "minWindowSamples", WINDOW_SAMPLES);
+        ReflectionTestUtils.setField(limiter, "rttResetWindows", 60);
+        ReflectionTestUtils.setField(limiter, "normalShare", 0.9);
+        ReflectionTestUtils.setField(limiter, "lowShare", 0.7);
+        limiter.init();
+        return limiter;
+    }
+}
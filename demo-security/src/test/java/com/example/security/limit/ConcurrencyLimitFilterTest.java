@@ -0,0 +1,113 @@
+package com.example.security.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한도 초과 요청은 하위 필터로 넘기지 않고 503 + Retry-After로 거절하고, 우선순위가 높은 요청은 남은 자리로 처리되는지 확인
+ */
+class ConcurrencyLimitFilterTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = AdaptiveConcurrencyLimiterTest.limiter();
+        filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "priorityPaths", List.of("/api/v1/demo/auth/sign/**"));
+        ReflectionTestUtils.setField(filter, "excludedPaths", List.of("/actuator/**"));
+        ReflectionTestUtils.setField(filter, "retryAfterSeconds", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void anonymousRequestOverLowShareIsRejectedWithRetryAfter() throws Exception {
+        // limit 20 → LOW 14
+        fill(RequestPriority.CRITICAL, 14);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/demo/public/menus/tree"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"success\":false");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(limiter.getInFlight()).isEqualTo(14);
+    }
+
+    @Test
+    void criticalRequestUsesRemainingSlots() throws Exception {
+        fill(RequestPriority.CRITICAL, 14);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/demo/auth/sign/in"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(limiter.getInFlight()).isEqualTo(14);
+    }
+
+    @Test
+    void authenticatedUserGetsNormalShare() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "user@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        fill(RequestPriority.CRITICAL, 17);
+
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/demo/auth/me"), accepted, new MockFilterChain());
+        fill(RequestPriority.CRITICAL, 1);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/demo/auth/me"), rejected, new MockFilterChain());
+
+        assertThat(accepted.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(rejected.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void downstreamGatewayTimeoutCountsAsDropped() throws Exception {
+        int before = limiter.getLimit();
+        // window(4건)가 모두 504로 끝남
+        for (int i = 0; i < 4; i++) {
+            MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                    resp.setStatus(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+                }
+            });
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/demo/auth/sign/in"), new MockHttpServletResponse(), chain);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(before);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private void fill(RequestPriority priority, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(limiter.tryAcquire(priority)).isTrue();
+        }
+    }
+}
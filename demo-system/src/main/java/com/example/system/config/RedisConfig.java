@@ -0,0 +1,29 @@
+package com.example.system.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+@Slf4j
+@Configuration
+public class RedisConfig {
+
+    /**
+     * pub/sub 구독 (메뉴 캐시 무효화)
+     * 연결이 끊기면 지수 backoff(최대 30초)로 재구독하며, 구독이 없는 동안 메뉴 캐시는 사용하지 않음 (MenuCacheInvalidator)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        ExponentialBackOff recoveryBackOff = new ExponentialBackOff(1000, 2.0);
+        recoveryBackOff.setMaxInterval(30_000);
+        container.setRecoveryBackoff(recoveryBackOff);
+        container.setErrorHandler(e -> log.warn("Redis listener error: {}", e.toString()));
+        return container;
+    }
+}
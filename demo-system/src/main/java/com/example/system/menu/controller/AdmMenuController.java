@@ -4,6 +4,7 @@ import com.example.common.dto.ApiResponse;
 import com.example.system.menu.dto.MenuSearchRequest;
 import com.example.system.menu.dto.MenuUpdateRequest;
 import com.example.system.menu.service.MenuService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,7 +21,7 @@ public class AdmMenuController {
     }
 
     @PostMapping("update")
-    public ResponseEntity<?> updateMenu(@RequestBody MenuUpdateRequest updateRequest) {
+    public ResponseEntity<?> updateMenu(@Valid @RequestBody MenuUpdateRequest updateRequest) {
         return ResponseEntity.ok(ApiResponse.success(menuService.updateMenu(updateRequest)));
     }
 
@@ -1,5 +1,6 @@
 package com.example.system.menu.controller;
 
+import com.example.db.querycount.QueryBudget;
 import com.example.system.menu.service.MenuService;
 import lombok.RequiredArgsConstructor;
 
@@ -15,6 +16,7 @@ public class MenuController {
     private final MenuService menuService;
 
     @GetMapping("/tree")
+    @QueryBudget(1)
     public ResponseEntity<?> getMenuTree() {
         return ResponseEntity.ok(menuService.getMenuTree());
     }
@@ -19,6 +19,7 @@ public interface MenuConverter {
     @Mapping(target = "icon", ignore = true)
     @Mapping(target = "description", ignore = true)
     @Mapping(target = "menuOrder", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Menu toEntity(MenuSearchRequest searchRequest);
 
     Menu toEntity(MenuUpdateRequest updateRequest);
@@ -29,6 +30,7 @@ public interface MenuConverter {
 
     @Mapping(target = "menuId", ignore = true) 
     @Mapping(target = "menuDepth", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Menu toEntity(MenuInsertRequest insertRequest);
 
 
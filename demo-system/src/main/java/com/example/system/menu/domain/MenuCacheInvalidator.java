@@ -0,0 +1,161 @@
+package com.example.system.menu.domain;
+
+import com.example.db.purge.SoftDeletePurgedEvent;
+import com.example.system.menu.domain.entity.Menu;
+import com.example.system.menu.repository.MenuMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MenuMapper 2차 캐시 / Menu 엔티티 2차 캐시(Hibernate menu region) 무효화 (인스턴스 간 전파)
+ *
+ * 변경 커밋 후 로컬 캐시를 비우고 Redis pub/sub 채널로 다른 인스턴스에도 전파합니다.
+ * 다른 인스턴스는 메시지를 받으면 MyBatis 캐시와 함께 Menu region도 비워, 오래된 version으로 수정이 409가 되지 않도록 합니다.
+ * 메시지가 유실되더라도 MyBatis 캐시의 flushInterval(5분), menu region의 TTL(5분) 이후에는 DB 값으로 다시 채워집니다.
+ *
+ * 무효화마다 generation을 올리고, 조회는 시작 시점의 generation을 기억해 두었다가
+ * 조회 결과가 캐시에 저장된 뒤(트랜잭션 완료 시점) generation이 바뀌었으면 캐시를 다시 비웁니다.
+ * 커밋 전 값을 읽은 조회가 무효화 이후에 뒤늦게 캐시에 저장되는 경우를 막기 위함입니다.
+ * 구독이 끊긴 동안에는 무효화 메시지를 받을 수 없으므로 조회할 때마다 비우고, 다시 구독되면 전체를 비운 뒤 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuCacheInvalidator implements MessageListener {
+
+    /** 메뉴 캐시 무효화 채널, 메시지 본문은 발행한 인스턴스 ID */
+    static final String INVALIDATION_CHANNEL = "menu:cache:invalidate";
+
+    private static final String MENU_TABLE = "tbl_menu";
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    /** 엔티티 리스너(MenuCacheListener)가 EntityManagerFactory 생성 중에 만들어지므로 지연 조회 */
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong generation = new AtomicLong();
+
+    /** 구독이 끊긴 적이 있어 다시 구독되면 전체를 비워야 하는지 여부 */
+    private final AtomicBoolean subscriptionGap = new AtomicBoolean(true);
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시를 거치는 조회 전에 호출
+     * 트랜잭션 안이면 완료 시점에, 아니면 호출한 쪽이 조회 후 verifyRead로 확인
+     *
+     * @return 조회 시작 시점의 generation
+     */
+    public long beginRead() {
+        long readGeneration = generation.get();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    verifyRead(readGeneration);
+                }
+            });
+        }
+        return readGeneration;
+    }
+
+    /**
+     * 조회 이후 무효화가 있었거나 구독이 끊긴 상태면 방금 저장된 결과가 오래된 값일 수 있으므로 로컬 캐시 비움
+     */
+    public void verifyRead(long readGeneration) {
+        if (!isSubscribed() || generation.get() != readGeneration) {
+            clearCache();
+        }
+    }
+
+    /**
+     * 로컬 캐시를 비우고 다른 인스턴스에 전파
+     */
+    public void evictAll() {
+        clearLocal();
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId);
+        } catch (DataAccessException e) {
+            log.warn("Menu cache invalidation not published (Redis unavailable), other instances refresh within flushInterval: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 정리 작업(SoftDeletePurgeJob)이 JDBC로 메뉴를 삭제한 경우, MyBatis 캐시는 변경을 알 수 없으므로 비우고 전파
+     * (lock을 얻은 인스턴스 하나에서만 실행됨)
+     */
+    @EventListener
+    public void onPurged(SoftDeletePurgedEvent event) {
+        if (MENU_TABLE.equalsIgnoreCase(event.table())) {
+            evictAll();
+        }
+    }
+
+    private void clearLocal() {
+        generation.incrementAndGet();
+        clearCache();
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory != null) {
+            factory.getCache().evict(Menu.class);
+        }
+    }
+
+    private void clearCache() {
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        String namespace = MenuMapper.class.getName();
+        if (configuration.hasCache(namespace)) {
+            configuration.getCache(namespace).clear();
+            log.debug("Menu mapper cache cleared");
+        }
+    }
+
+    /**
+     * 다시 구독되면 그 사이 놓친 무효화가 있을 수 있으므로 전체를 비움
+     */
+    private boolean isSubscribed() {
+        if (!listenerContainer.isListening()) {
+            if (subscriptionGap.compareAndSet(false, true)) {
+                log.warn("Menu cache bypassed: invalidation channel not subscribed");
+            }
+            return false;
+        }
+        if (subscriptionGap.compareAndSet(true, false)) {
+            clearLocal();
+        }
+        return true;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String publisher = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!instanceId.equals(publisher)) {
+            clearLocal();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.system.menu.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA로 메뉴 변경 시 MenuMapper 2차 캐시 비움 (MenuCacheInvalidator로 모든 인스턴스에 전파)
+ * MyBatis는 JPA 쓰기를 알지 못하므로 엔티티 이벤트로 처리하며, 커밋 이후에 비워 커밋 전 값이 다시 캐시되지 않도록 함
+ * (JPQL 벌크 UPDATE/DELETE는 엔티티 이벤트가 발생하지 않으므로 직접 MenuCacheInvalidator.evictAll 호출 필요)
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuCacheListener {
+
+    private final MenuCacheInvalidator menuCacheInvalidator;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    menuCacheInvalidator.evictAll();
+                }
+            });
+        } else {
+            menuCacheInvalidator.evictAll();
+        }
+    }
+}
@@ -2,14 +2,19 @@ package com.example.system.menu.domain.entity;
 
 import com.example.common.entity.BaseEntity;
 import com.example.common.enums.YesNo;
+import com.example.system.menu.domain.MenuCacheListener;
 import com.example.system.menu.dto.MenuUpdateRequest;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicUpdate;
 
+import java.io.Serial;
+
 @Entity
 @Table(name = "tbl_menu")
 @Getter
@@ -17,8 +22,14 @@ import org.hibernate.annotations.DynamicUpdate;
 @NoArgsConstructor
 @AllArgsConstructor
 @DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu")
+@EntityListeners(MenuCacheListener.class)
 public class Menu extends BaseEntity {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "menu_id")
@@ -49,6 +60,13 @@ public class Menu extends BaseEntity {
     @Column(name = "description", length = 500)
     private String description;
 
+    /**
+     * 낙관적 잠금 버전 (수정 시 UPDATE ... WHERE version = ?, 다른 요청이 먼저 수정했으면 충돌)
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public void setMenuInfo(MenuUpdateRequest updateRequest) {
         this.menuName = updateRequest.menuName();
         this.menuUrl = updateRequest.menuUrl();
@@ -24,6 +24,7 @@ public class MenuResponse {
     private String icon;
     private YesNo useYn;
     private String description;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -38,6 +39,7 @@ public class MenuResponse {
                 .icon(menu.getIcon())
                 .useYn(menu.getUseYn())
                 .description(menu.getDescription())
+                .version(menu.getVersion())
                 .createdAt(menu.getCreatedAt())
                 .updatedAt(menu.getUpdatedAt())
                 .build();
@@ -1,5 +1,7 @@
 package com.example.system.menu.dto;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,7 +16,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
-public class MenuTreeResponse {
+public class MenuTreeResponse implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private Long menuId;
     private String menuName;
     private String menuUrl;
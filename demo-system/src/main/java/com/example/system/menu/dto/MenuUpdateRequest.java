@@ -1,6 +1,7 @@
 package com.example.system.menu.dto;
 
 import com.example.common.enums.YesNo;
+import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 
 @Builder(toBuilder = true)
@@ -21,6 +22,10 @@ public record MenuUpdateRequest(
 
         YesNo useYn,
 
-        String description
+        String description,
+
+        // 조회 시점의 버전 (메뉴 수정 시 필수), 그 사이 다른 요청이 수정한 경우 409
+        @NotNull(message = "version은 필수입니다")
+        Long version
 ) {
 }
@@ -16,5 +16,6 @@ public interface MenuMapper {
 
     List<Menu> selectChildMenus(Long parentId);
     // DELETE
+    // JPA 2차 캐시(menu region)는 MyBatis 변경을 알 수 없으므로 호출 후 Menu region evict 필요
     int deleteMenuWithChildren(Long menuId);
 }
@@ -2,7 +2,12 @@ package com.example.system.menu.service;
 
 import com.example.common.dto.PageResponse;
 import com.example.common.enums.YesNo;
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+import com.example.db.retry.OptimisticRetryTemplate;
+import com.example.db.workload.Workload;
 import com.example.system.menu.converter.MenuConverter;
+import com.example.system.menu.domain.MenuCacheInvalidator;
 import com.example.system.menu.domain.entity.Menu;
 import com.example.system.menu.dto.MenuInsertRequest;
 import com.example.system.menu.dto.MenuResponse;
@@ -31,8 +36,11 @@ public class MenuServiceImpl implements MenuService {
     private final MenuRepository menuRepository;
     private final MenuMapper menuMapper;
     private final MenuConverter menuConverter;
+    private final OptimisticRetryTemplate optimisticRetryTemplate;
+    private final MenuCacheInvalidator menuCacheInvalidator;
 
     @Override
+    @Workload(Workload.ADMIN)
     @Transactional(readOnly = true)
     public PageResponse<MenuResponse> findAdmMenus(MenuSearchRequest searchRequest, int page, int pageSize) {
         PageRequest pageable = PageRequest.of(page, pageSize);
@@ -41,37 +49,71 @@ public class MenuServiceImpl implements MenuService {
     }
 
     @Override
+    @Workload(Workload.ADMIN)
     @Transactional
     public void insertMenu(MenuInsertRequest insertRequest) {
         Menu newMenu = menuConverter.toEntity(insertRequest);
         menuRepository.save(newMenu);
     }
 
+    /**
+     * 메뉴 수정 (@Version 낙관적 잠금)
+     * 요청의 모든 필드를 덮어쓰므로 자동 재시도 없이 조회 시점의 version이 필수이며,
+     * 그 사이 다른 요청이 수정했거나 커밋 시점에 충돌하면 409 (클라이언트가 다시 조회 후 수정)
+     */
     @Override
-    @Transactional()
+    @Workload(Workload.ADMIN)
+    @Transactional
     public MenuResponse updateMenu(MenuUpdateRequest updateRequest) {
+        if (updateRequest.version() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
         Menu originMenu = menuRepository.findById(updateRequest.menuId()).orElseThrow(NoSuchElementException::new);
+        if (!updateRequest.version().equals(originMenu.getVersion())) {
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
         originMenu.setMenuInfo(updateRequest);
+        // 응답에 증가된 version이 담기도록 커밋 전에 UPDATE 실행
+        menuRepository.flush();
 
         return menuConverter.toMenuResponse(originMenu);
     }
 
+    /**
+     * 사용 여부만 변경하므로 커밋 시점 충돌은 최신 값을 다시 읽어 재시도 (다시 적용해도 결과가 같음)
+     */
     @Override
+    @Workload(Workload.ADMIN)
     public MenuResponse updateUseYn(Long menuId, YesNo useYn) {
-        Menu originMenu = menuRepository.findById(menuId).orElseThrow(NoSuchElementException::new);
-        originMenu.setUseYn(useYn);
+        return optimisticRetryTemplate.execute("menu.update-use-yn", () -> {
+            Menu originMenu = menuRepository.findById(menuId).orElseThrow(NoSuchElementException::new);
+            originMenu.setUseYn(useYn);
+            menuRepository.flush();
 
-        return menuConverter.toMenuResponse(originMenu);
+            return menuConverter.toMenuResponse(originMenu);
+        });
     }
 
+    /**
+     * 조회 결과가 MyBatis 2차 캐시에 저장되므로 readOnly(replica 라우팅)가 아닌 트랜잭션으로 primary에서 조회
+     * 지연된 replica에서 읽으면 변경 직후 비운 캐시에 이전 트리가 다시 저장될 수 있음
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Workload(Workload.PUBLIC_READ)
+    @Transactional
     public List<MenuTreeResponse> getMenuTree() {
+        // 조회 중 메뉴가 변경되면 트랜잭션 완료 후 캐시에 저장된 결과를 다시 비움
+        menuCacheInvalidator.beginRead();
         List<MenuTreeResponse> menuTree = menuMapper.selectMenuTree();
         return buildMenuTree(menuTree);
     }
 
-    private List<MenuTreeResponse> buildMenuTree(List<MenuTreeResponse> flatMenuList) {
+    private List<MenuTreeResponse> buildMenuTree(List<MenuTreeResponse> cachedMenuList) {
+        // 조회 결과는 MyBatis 2차 캐시에 커밋 시점에 저장되므로 원본 대신 복사본으로 트리 조립
+        List<MenuTreeResponse> flatMenuList = cachedMenuList.stream()
+                .map(menu -> menu.toBuilder().children(new ArrayList<>()).build())
+                .toList();
+
         // 메뉴 ID를 키로 하는 맵 생성
         Map<Long, MenuTreeResponse> menuMap = flatMenuList.stream()
                 .collect(Collectors.toMap(MenuTreeResponse::getMenuId, Function.identity()));
@@ -0,0 +1,45 @@
+-- ===================================
+-- demo-system 기본 스키마 (ddl-auto로 생성되던 테이블과 동일)
+-- ===================================
+-- 기존(ddl-auto) DB는 baseline-version 0으로 등록되어 이 스크립트가 실행되므로 IF NOT EXISTS 사용
+-- 초기 메뉴 데이터: scripts/init-menu-sql.sql
+
+CREATE TABLE IF NOT EXISTS tbl_menu (
+    menu_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    menu_name   VARCHAR(100) NOT NULL,
+    menu_url    VARCHAR(255),
+    parent_id   BIGINT,
+    menu_order  INT,
+    menu_depth  INT,
+    icon        VARCHAR(100),
+    use_yn      VARCHAR(1),
+    description VARCHAR(500),
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    created_by  VARCHAR(100),
+    updated_by  VARCHAR(100),
+    del_yn      VARCHAR(255) NOT NULL,
+    deleted_at  DATETIME(6),
+    PRIMARY KEY (menu_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+-- soft delete 정리 작업(db.purge) archive 테이블 (원본 테이블의 모든 컬럼 + archived_at)
+CREATE TABLE IF NOT EXISTS tbl_menu_archive (
+    menu_id     BIGINT       NOT NULL,
+    menu_name   VARCHAR(100),
+    menu_url    VARCHAR(255),
+    parent_id   BIGINT,
+    menu_order  INT,
+    menu_depth  INT,
+    icon        VARCHAR(100),
+    use_yn      VARCHAR(1),
+    description VARCHAR(500),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    created_by  VARCHAR(100),
+    updated_by  VARCHAR(100),
+    del_yn      VARCHAR(255),
+    deleted_at  DATETIME(6),
+    archived_at DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (menu_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,11 @@
+-- ===================================
+-- 조회 경로별 인덱스
+-- ===================================
+-- 확인: scripts/explain/explain-check.sh
+
+-- 메뉴 트리(WITH RECURSIVE)의 루트 조회(parent_id IS NULL)와 하위 조인(m.parent_id = mc.menu_id),
+-- 하위 메뉴 조회(parent_id = ? AND use_yn = 'Y' ORDER BY menu_order)를 filesort 없이 처리
+CREATE INDEX idx_menu_parent_use_order ON tbl_menu (parent_id, use_yn, menu_order);
+
+-- soft delete 정리 작업: WHERE del_yn = 'Y' AND deleted_at < ?
+CREATE INDEX idx_menu_del_yn ON tbl_menu (del_yn, deleted_at);
@@ -0,0 +1,8 @@
+-- ===================================
+-- 메뉴 낙관적 잠금 (Menu.version, @Version)
+-- ===================================
+-- 기존 행은 0부터 시작, archive 테이블은 정리 작업이 원본 컬럼을 그대로 복사하므로 함께 추가
+
+ALTER TABLE tbl_menu ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE tbl_menu_archive ADD COLUMN version BIGINT AFTER deleted_at;
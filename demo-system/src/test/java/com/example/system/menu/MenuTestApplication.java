@@ -0,0 +1,16 @@
+package com.example.system.menu;
+
+import com.example.system.menu.repository.MenuRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 메뉴 slice 테스트용 설정
+ * SystemApplication은 com.example 전체를 component scan하므로 slice 테스트(@DataJpaTest)에서는 이 설정을 사용
+ */
+@SpringBootConfiguration
+@EntityScan(basePackages = "com.example")
+@EnableJpaRepositories(basePackageClasses = MenuRepository.class)
+public class MenuTestApplication {
+}
@@ -0,0 +1,93 @@
+package com.example.system.menu.controller;
+
+import com.example.db.config.MyBatisConfig;
+import com.example.db.querycount.QueryBudgetAspect;
+import com.example.db.querycount.QueryCounter;
+import com.example.db.querycount.QueryCountingDataSourcePostProcessor;
+import com.example.db.retry.OptimisticRetryTemplate;
+import com.example.system.menu.converter.MenuConverterImpl;
+import com.example.system.menu.domain.MenuCacheInvalidator;
+import com.example.system.menu.dto.MenuTreeResponse;
+import com.example.system.menu.service.MenuServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메뉴 트리 조회(/menus/tree)가 @QueryBudget(1) 이내로 실행되는지 확인 (초과 시 QueryBudgetExceededException)
+ * 하위 메뉴 수와 관계없이 WITH RECURSIVE 1회로 조회하고, MyBatis 2차 캐시에 저장된 뒤에는 조회하지 않음
+ */
+@DataJpaTest(properties = {
+        "db.query-budget.enabled=true",
+        "db.query-budget.fail-on-exceed=true"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({MenuController.class, MenuServiceImpl.class, MenuConverterImpl.class, OptimisticRetryTemplate.class,
+        MyBatisConfig.class, QueryCountingDataSourcePostProcessor.class, QueryBudgetAspect.class})
+class MenuTreeQueryBudgetTest {
+
+    @Autowired
+    private MenuController menuController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // MenuCacheListener 의존성
+    @MockBean
+    private MenuCacheInvalidator menuCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO tbl_menu (menu_name, menu_url, menu_order, menu_depth, use_yn, created_at, updated_at, del_yn, version)
+                VALUES ('budget-root', '/budget', 1, 0, 'Y', NOW(), NOW(), 'N', 0)
+                """);
+        Long rootId = jdbcTemplate.queryForObject("SELECT MAX(menu_id) FROM tbl_menu", Long.class);
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO tbl_menu (menu_name, menu_url, parent_id, menu_order, menu_depth, use_yn,
+                                          created_at, updated_at, del_yn, version)
+                    VALUES (?, ?, ?, ?, 1, 'Y', NOW(), NOW(), 'N', 0)
+                    """, "budget-child-" + i, "/budget/" + i, rootId, i);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void menuTreeStaysWithinQueryBudget() {
+        try (QueryCounter.Scope scope = QueryCounter.start("menu tree")) {
+            ResponseEntity<?> response = menuController.getMenuTree();
+
+            assertThat(scope.getCount()).isLessThanOrEqualTo(1);
+            MenuTreeResponse root = ((List<MenuTreeResponse>) response.getBody()).stream()
+                    .filter(menu -> "budget-root".equals(menu.getMenuName()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(root.getChildren()).hasSize(3);
+        }
+
+        try (QueryCounter.Scope scope = QueryCounter.start("cached menu tree")) {
+            menuController.getMenuTree();
+
+            assertThat(scope.getCount()).isZero();
+        }
+    }
+}
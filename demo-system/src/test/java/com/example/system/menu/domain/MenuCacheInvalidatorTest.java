@@ -0,0 +1,135 @@
+package com.example.system.menu.domain;
+
+import com.example.db.purge.SoftDeletePurgedEvent;
+import com.example.system.menu.repository.MenuMapper;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조회와 무효화가 겹칠 때 오래된 조회 결과가 캐시에 남지 않는지 확인
+ * 정리 작업이 메뉴를 삭제하면 캐시를 비우고 다른 인스턴스에 전파하는지 확인
+ */
+class MenuCacheInvalidatorTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+
+    private Cache cache;
+    private MenuCacheInvalidator invalidator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Configuration configuration = new Configuration();
+        cache = new PerpetualCache(MenuMapper.class.getName());
+        configuration.addCache(cache);
+
+        SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+        when(sqlSessionFactory.getConfiguration()).thenReturn(configuration);
+        when(listenerContainer.isListening()).thenReturn(true);
+
+        invalidator = new MenuCacheInvalidator(sqlSessionFactory, stringRedisTemplate, listenerContainer,
+                mock(ObjectProvider.class));
+        invalidator.init();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void readStoredAfterConcurrentInvalidationIsCleared() {
+        invalidator.beginRead();
+        // 조회가 변경 전 값을 읽은 뒤 다른 트랜잭션이 커밋 → 무효화, 이후 조회 트랜잭션 커밋 시 캐시 저장
+        invalidator.evictAll();
+        cache.putObject("selectMenuTree", "stale");
+        completeTransaction();
+
+        assertThat(cache.getSize()).isZero();
+        verify(stringRedisTemplate).convertAndSend(eq(MenuCacheInvalidator.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    void readWithoutInvalidationStaysCached() {
+        // 첫 구독 확인 시 전체를 비우므로 미리 한 번 확인
+        invalidator.verifyRead(invalidator.beginRead());
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        invalidator.beginRead();
+        cache.putObject("selectMenuTree", "fresh");
+        completeTransaction();
+
+        assertThat(cache.getObject("selectMenuTree")).isEqualTo("fresh");
+    }
+
+    @Test
+    void invalidationFromOtherInstanceClearsCacheAndPendingRead() {
+        invalidator.verifyRead(invalidator.beginRead());
+        cache.putObject("selectMenuTree", "cached");
+        assertThat(cache.getSize()).isEqualTo(1);
+
+        long readGeneration = invalidator.beginRead();
+        invalidator.onMessage(new DefaultMessage(
+                MenuCacheInvalidator.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "other-instance".getBytes(StandardCharsets.UTF_8)), null);
+        assertThat(cache.getSize()).isZero();
+
+        cache.putObject("selectMenuTree", "stale");
+        invalidator.verifyRead(readGeneration);
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    void cacheIsBypassedWhileNotSubscribed() {
+        when(listenerContainer.isListening()).thenReturn(false);
+
+        long readGeneration = invalidator.beginRead();
+        cache.putObject("selectMenuTree", "unverified");
+        invalidator.verifyRead(readGeneration);
+
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    void purgedMenuRowsClearCacheOnAllInstances() {
+        cache.putObject("selectMenuTree", "cached");
+        invalidator.onPurged(new SoftDeletePurgedEvent("tbl_users", 3));
+        assertThat(cache.getSize()).isEqualTo(1);
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        invalidator.onPurged(new SoftDeletePurgedEvent("tbl_menu", 3));
+
+        assertThat(cache.getSize()).isZero();
+        verify(stringRedisTemplate).convertAndSend(eq(MenuCacheInvalidator.INVALIDATION_CHANNEL), anyString());
+    }
+
+    private static void completeTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+    }
+}
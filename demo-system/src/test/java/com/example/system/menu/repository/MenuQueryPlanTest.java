@@ -0,0 +1,178 @@
+package com.example.system.menu.repository;
+
+import com.example.common.enums.YesNo;
+import com.example.db.config.MyBatisConfig;
+import com.example.db.explain.ExplainCapturingDataSource;
+import com.example.db.explain.ExplainCapturingDataSource.ExplainedStatement;
+import com.example.db.purge.PurgeProperties;
+import com.example.db.purge.SoftDeletePurgeJob;
+import com.example.system.menu.domain.MenuCacheInvalidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메뉴 조회 / 정리 쿼리의 실행 계획 확인 (MySQL 8, Flyway 마이그레이션 적용 후)
+ * MenuMapper / MenuRepository / 정리 작업을 실제로 호출하고 MyBatis / Hibernate가 생성한 SQL을 같은 파라미터로 EXPLAIN
+ * 인덱스 없이 테이블 전체를 읽는(type = ALL) 쿼리가 있으면 실패, Docker가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "db.second-level-cache.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MyBatisConfig.class, ExplainCapturingDataSource.PostProcessor.class})
+class MenuQueryPlanTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MenuMapper menuMapper;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    // MenuCacheListener 의존성
+    @MockBean
+    private MenuCacheInvalidator menuCacheInvalidator;
+
+    private ExplainCapturingDataSource explained;
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+    }
+
+    @BeforeAll
+    static void setUpData() {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration/system")
+                .table("flyway_history_system")
+                .load()
+                .migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword(), true));
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = 100000");
+
+        // 루트 20개 + 하위 5,000개 (10%는 미사용, 2%는 보관 기간이 지난 soft delete)
+        jdbcTemplate.update("""
+                INSERT INTO tbl_menu (menu_name, menu_url, parent_id, menu_order, menu_depth, use_yn,
+                                      created_at, updated_at, del_yn)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20)
+                SELECT CONCAT('root-', n), CONCAT('/root-', n), NULL, n, 0, 'Y', NOW(), NOW(), 'N' FROM seq
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO tbl_menu (menu_name, menu_url, parent_id, menu_order, menu_depth, use_yn,
+                                      created_at, updated_at, del_yn, deleted_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000)
+                SELECT CONCAT('menu-', n), CONCAT('/menu-', n), 1 + n % 20, n, 1, IF(n % 10 = 0, 'N', 'Y'),
+                       NOW(), NOW(), IF(n % 50 = 0, 'Y', 'N'), IF(n % 50 = 0, NOW() - INTERVAL 60 DAY, NULL)
+                  FROM seq
+                """);
+
+        jdbcTemplate.queryForList("ANALYZE TABLE tbl_menu");
+    }
+
+    @BeforeEach
+    void setUp() {
+        explained = (ExplainCapturingDataSource) dataSource;
+        explained.clear();
+    }
+
+    /** MenuMapper.selectMenuTree (재귀 참조 mc는 제외) */
+    @Test
+    void menuTree() {
+        menuMapper.selectMenuTree();
+
+        executed().forEach(statement -> assertNoFullScan(statement, "mc"));
+    }
+
+    /** MenuMapper.selectChildMenus, MenuRepository.findByParentIdAndUseYnOrderByMenuOrderAsc */
+    @Test
+    void menuChildren() {
+        menuMapper.selectChildMenus(1L);
+        menuRepository.findByParentIdAndUseYnOrderByMenuOrderAsc(1L, YesNo.YES);
+
+        List<ExplainedStatement> statements = executed();
+        assertThat(statements).hasSize(2);
+        statements.forEach(MenuQueryPlanTest::assertNoFullScan);
+    }
+
+    /** SoftDeletePurgeJob batch 조회 (첫 batch / 다음 batch) */
+    @Test
+    void purgeMenu() {
+        PurgeProperties.Table table = new PurgeProperties.Table();
+        table.setName("tbl_menu");
+        table.setIdColumn("menu_id");
+        PurgeProperties properties = new PurgeProperties();
+        properties.setInitialDelayMs(Long.MAX_VALUE);
+        properties.setBatchSize(50);
+        properties.setMaxBatchesPerRun(2);
+        properties.setPauseMs(0);
+        properties.setTables(List.of(table));
+        ExplainCapturingDataSource purgeDataSource = new ExplainCapturingDataSource(
+                new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+
+        try (SoftDeletePurgeJob job = new SoftDeletePurgeJob(purgeDataSource, properties,
+                beans.getBeanProvider(MeterRegistry.class), beans.getBeanProvider(EntityManagerFactory.class),
+                event -> { })) {
+            job.runOnce();
+        }
+
+        List<ExplainedStatement> batches = purgeDataSource.getStatements().stream()
+                .filter(statement -> statement.sql().contains("deleted_at < ?"))
+                .toList();
+        assertThat(batches).hasSize(2);
+        batches.forEach(MenuQueryPlanTest::assertNoFullScan);
+    }
+
+    private List<ExplainedStatement> executed() {
+        List<ExplainedStatement> statements = explained.getStatements();
+        assertThat(statements).as("executed SELECT").isNotEmpty();
+        return statements;
+    }
+
+    private static void assertNoFullScan(ExplainedStatement statement, String... ignoredTables) {
+        assertThat(statement.fullScans(ignoredTables))
+                .as("full table scan\n%s", statement)
+                .isEmpty();
+    }
+}
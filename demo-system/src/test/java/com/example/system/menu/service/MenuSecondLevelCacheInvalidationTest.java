@@ -0,0 +1,121 @@
+package com.example.system.menu.service;
+
+import com.example.common.enums.YesNo;
+import com.example.db.retry.OptimisticRetryTemplate;
+import com.example.system.menu.converter.MenuConverterImpl;
+import com.example.system.menu.domain.MenuCacheInvalidator;
+import com.example.system.menu.domain.entity.Menu;
+import com.example.system.menu.dto.MenuResponse;
+import com.example.system.menu.dto.MenuUpdateRequest;
+import com.example.system.menu.repository.MenuMapper;
+import com.example.system.menu.repository.MenuRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다른 인스턴스에서 메뉴가 변경된 뒤 무효화 메시지를 받으면 Menu 2차 캐시의 오래된 version이 남지 않는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create-warn"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MenuServiceImpl.class, MenuConverterImpl.class, OptimisticRetryTemplate.class, MenuCacheInvalidator.class})
+class MenuSecondLevelCacheInvalidationTest {
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuCacheInvalidator menuCacheInvalidator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private MenuMapper menuMapper;
+
+    // MenuCacheInvalidator 의존성
+    @MockBean
+    private SqlSessionFactory sqlSessionFactory;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    private RedisMessageListenerContainer listenerContainer;
+
+    private Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        when(sqlSessionFactory.getConfiguration()).thenReturn(new Configuration());
+        when(listenerContainer.isListening()).thenReturn(true);
+
+        jdbcTemplate.update("""
+                INSERT INTO tbl_menu (menu_name, menu_url, menu_order, menu_depth, use_yn, description,
+                                      created_at, updated_at, del_yn, version)
+                VALUES ('l2', '/l2', 1, 0, 'Y', 'initial', NOW(), NOW(), 'N', 0)
+                """);
+        menuId = jdbcTemplate.queryForObject("SELECT MAX(menu_id) FROM tbl_menu", Long.class);
+    }
+
+    @Test
+    void changeFromOtherInstanceIsEvictedByInvalidationMessage() {
+        assertThat(menuRepository.findById(menuId).orElseThrow().getVersion()).isZero();
+        assertThat(entityManagerFactory.getCache().contains(Menu.class, menuId)).isTrue();
+
+        // 다른 인스턴스의 커밋 (이 인스턴스의 Hibernate를 거치지 않음)
+        jdbcTemplate.update("UPDATE tbl_menu SET description = 'remote', version = version + 1 WHERE menu_id = ?", menuId);
+        assertThat(menuRepository.findById(menuId).orElseThrow().getVersion()).isZero();
+
+        menuCacheInvalidator.onMessage(new DefaultMessage(
+                "menu:cache:invalidate".getBytes(StandardCharsets.UTF_8),
+                "other-instance".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(entityManagerFactory.getCache().contains(Menu.class, menuId)).isFalse();
+        // 클라이언트가 보낸 현재 version(1)으로 수정 가능
+        MenuResponse updated = menuService.updateMenu(MenuUpdateRequest.builder()
+                .menuId(menuId)
+                .menuName("l2")
+                .menuUrl("/l2")
+                .menuOrder(1)
+                .useYn(YesNo.YES)
+                .description("local")
+                .version(1L)
+                .build());
+        assertThat(updated.getVersion()).isEqualTo(2L);
+        assertThat(menuService.updateUseYn(menuId, YesNo.NO).getUseYn()).isEqualTo(YesNo.NO);
+    }
+}
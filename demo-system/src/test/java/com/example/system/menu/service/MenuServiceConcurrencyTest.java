@@ -0,0 +1,184 @@
+package com.example.system.menu.service;
+
+import com.example.common.enums.YesNo;
+import com.example.common.exception.BusinessException;
+import com.example.common.exception.ErrorCode;
+import com.example.db.retry.OptimisticRetryTemplate;
+import com.example.system.menu.converter.MenuConverterImpl;
+import com.example.system.menu.domain.MenuCacheInvalidator;
+import com.example.system.menu.dto.MenuResponse;
+import com.example.system.menu.dto.MenuUpdateRequest;
+import com.example.system.menu.repository.MenuMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메뉴 동시 수정 시 lost update가 없는지 확인
+ * 각 요청이 의도한 필드 값이 남아 있거나, 남지 않았다면 그 요청은 409(충돌)로 실패해야 함
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MenuServiceImpl.class, MenuConverterImpl.class, OptimisticRetryTemplate.class})
+class MenuServiceConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private MenuMapper menuMapper;
+
+    // MenuCacheListener 의존성
+    @MockBean
+    private MenuCacheInvalidator menuCacheInvalidator;
+
+    private Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO tbl_menu (menu_name, menu_url, menu_order, menu_depth, use_yn, description,
+                                      created_at, updated_at, del_yn, version)
+                VALUES ('concurrency', '/concurrency', 1, 0, 'Y', 'initial', NOW(), NOW(), 'N', 0)
+                """);
+        menuId = jdbcTemplate.queryForObject("SELECT MAX(menu_id) FROM tbl_menu", Long.class);
+    }
+
+    @Test
+    void sameVersionUpdatesLetExactlyOneWriterWin() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            long version = currentVersion();
+            List<Callable<Outcome>> writers = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                String description = "round-" + round + "-writer-" + i;
+                writers.add(() -> Outcome.of(description, () -> menuService.updateMenu(updateRequest(description, YesNo.YES, version))));
+            }
+
+            List<Outcome> outcomes = runConcurrently(writers);
+
+            List<Outcome> succeeded = outcomes.stream().filter(Outcome::succeeded).toList();
+            assertThat(succeeded).hasSize(1);
+            assertThat(outcomes.stream().filter(Outcome::conflicted)).hasSize(WRITERS - 1);
+            assertThat(currentRow().get("description")).isEqualTo(succeeded.get(0).intended());
+            assertThat(currentVersion()).isEqualTo(version + 1);
+        }
+    }
+
+    @Test
+    void useYnToggleAndFullUpdateNeverLoseAField() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            long version = currentVersion();
+            YesNo useYn = round % 2 == 0 ? YesNo.NO : YesNo.YES;
+            String description = "round-" + round;
+            String previousDescription = (String) currentRow().get("description");
+            YesNo currentUseYn = YesNo.fromValue((String) currentRow().get("use_yn"));
+
+            List<Outcome> outcomes = runConcurrently(List.of(
+                    () -> Outcome.of(description, () -> menuService.updateMenu(updateRequest(description, currentUseYn, version))),
+                    () -> Outcome.of(useYn.name(), () -> menuService.updateUseYn(menuId, useYn))
+            ));
+            Outcome fullUpdate = outcomes.get(0);
+            Outcome toggle = outcomes.get(1);
+
+            // 사용 여부 변경은 서버 재시도로 항상 반영
+            assertThat(toggle.succeeded()).isTrue();
+            assertThat(currentRow().get("use_yn")).isEqualTo(useYn.getValue());
+
+            // 전체 수정은 반영되었거나 409
+            if (fullUpdate.succeeded()) {
+                assertThat(currentRow().get("description")).isEqualTo(description);
+            } else {
+                assertThat(fullUpdate.conflicted()).isTrue();
+                assertThat(currentRow().get("description")).isEqualTo(previousDescription);
+            }
+        }
+    }
+
+    private MenuUpdateRequest updateRequest(String description, YesNo useYn, long version) {
+        return MenuUpdateRequest.builder()
+                .menuId(menuId)
+                .menuName("concurrency")
+                .menuUrl("/concurrency")
+                .menuOrder(1)
+                .useYn(useYn)
+                .description(description)
+                .version(version)
+                .build();
+    }
+
+    private long currentVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM tbl_menu WHERE menu_id = ?", Long.class, menuId);
+    }
+
+    private Map<String, Object> currentRow() {
+        return jdbcTemplate.queryForMap("SELECT description, use_yn FROM tbl_menu WHERE menu_id = ?", menuId);
+    }
+
+    private static List<Outcome> runConcurrently(List<Callable<Outcome>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (Callable<Outcome> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Outcome(String intended, boolean succeeded, boolean conflicted) {
+
+        static Outcome of(String intended, Callable<MenuResponse> update) {
+            try {
+                update.call();
+                return new Outcome(intended, true, false);
+            } catch (OptimisticLockingFailureException e) {
+                return new Outcome(intended, false, true);
+            } catch (BusinessException e) {
+                return new Outcome(intended, false, e.getErrorCode() == ErrorCode.CONCURRENT_MODIFICATION);
+            } catch (Exception e) {
+                throw new IllegalStateException("Unexpected failure for " + intended, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+#!/bin/bash
+# Hibernate 2차 캐시 무효화 확인 (동시 수정)
+#
+# 같은 메뉴에 대해 이름 변경 요청을 동시에 보낸 뒤,
+# 캐시를 거치는 조회(findById, update/use-yn 응답)와 DB 값이 같은지 반복 확인합니다.
+#
+# 사용법: TOKEN=<관리자 access token> MENU_ID=1 ./l2-cache-invalidation.sh
+# 환경변수: BASE_URL (기본 http://localhost:82/api/v1/demo/system), ROUNDS (기본 20), CONCURRENCY (기본 10)
+#          MYSQL_USER / MYSQL_PASSWORD / MYSQL_DB (기본 root / 1234 / db_demo)
+
+set -u
+
+BASE_URL=${BASE_URL:-http://localhost:82/api/v1/demo/system}
+MENU_ID=${MENU_ID:?MENU_ID 필요}
+TOKEN=${TOKEN:?TOKEN 필요}
+ROUNDS=${ROUNDS:-20}
+CONCURRENCY=${CONCURRENCY:-10}
+MYSQL_USER=${MYSQL_USER:-root}
+MYSQL_PASSWORD=${MYSQL_PASSWORD:-1234}
+MYSQL_DB=${MYSQL_DB:-db_demo}
+
+post() {
+    curl -s -X POST "$BASE_URL/adm-menus/$1" \
+        -H "Authorization: Bearer $TOKEN" \
+        -H "Content-Type: application/json" \
+        -d "$2"
+}
+
+db_menu_name() {
+    mysql -u"$MYSQL_USER" -p"$MYSQL_PASSWORD" -N -s "$MYSQL_DB" \
+        -e "SELECT menu_name FROM tbl_menu WHERE menu_id = $MENU_ID" 2>/dev/null
+}
+
+failures=0
+for round in $(seq 1 "$ROUNDS"); do
+    for i in $(seq 1 "$CONCURRENCY"); do
+        post update "{\"menuId\":$MENU_ID,\"menuName\":\"l2-check-$round-$i\",\"useYn\":\"Y\"}" > /dev/null &
+    done
+    wait
+
+    # update/use-yn은 findById(2차 캐시)로 읽은 엔티티를 그대로 반환
+    cached=$(post update/use-yn "{\"menuId\":$MENU_ID,\"useYn\":\"Y\"}" | grep -o '"menuName":"[^"]*"' | cut -d'"' -f4)
+    stored=$(db_menu_name)
+
+    if [ "$cached" != "$stored" ]; then
+        echo "round $round: MISMATCH cache=$cached db=$stored"
+        failures=$((failures + 1))
+    else
+        echo "round $round: ok ($stored)"
+    fi
+done
+
+echo "mismatches: $failures / $ROUNDS"
+[ "$failures" -eq 0 ]
@@ -0,0 +1,97 @@
+-- ===================================
+-- UUID v4 vs v7 Primary Key Insert Benchmark
+-- ===================================
+-- BINARY(16) PK에 무작위 UUID(v4)와 시간 순서 UUID(v7)를 각각 N건 INSERT 하고
+-- 소요 시간, index page split 횟수, 테이블/인덱스 크기를 비교합니다.
+--
+-- 실행: mysql -u root -p demo_db < uuid-insert-benchmark.sql
+-- 건수 변경: 아래 CALL 문의 인자 (기본 3,000,000건)
+-- 주의: innodb_monitor_enable 설정을 위해 SYSTEM_VARIABLES_ADMIN 권한 필요
+
+SET GLOBAL innodb_monitor_enable = 'index_page_splits';
+
+DROP TABLE IF EXISTS bench_uuid_v4;
+DROP TABLE IF EXISTS bench_uuid_v7;
+
+-- tbl_users와 비슷한 행 크기
+CREATE TABLE bench_uuid_v4 (
+    id         BINARY(16)   NOT NULL PRIMARY KEY,
+    user_name  VARCHAR(50)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL
+) ENGINE = InnoDB;
+
+CREATE TABLE bench_uuid_v7 LIKE bench_uuid_v4;
+
+DROP TABLE IF EXISTS bench_uuid_result;
+CREATE TABLE bench_uuid_result (
+    version      VARCHAR(10) NOT NULL,
+    row_count    INT         NOT NULL,
+    elapsed_sec  DECIMAL(10, 2),
+    page_splits  BIGINT
+) ENGINE = InnoDB;
+
+DROP PROCEDURE IF EXISTS bench_uuid_insert;
+
+DELIMITER //
+CREATE PROCEDURE bench_uuid_insert(IN p_version VARCHAR(10), IN p_rows INT)
+BEGIN
+    DECLARE i INT DEFAULT 0;
+    DECLARE v_started DATETIME(6);
+    DECLARE v_splits_before BIGINT;
+    DECLARE v_ms BIGINT;
+
+    SELECT COUNT INTO v_splits_before FROM information_schema.INNODB_METRICS WHERE NAME = 'index_page_splits';
+    SET v_started = NOW(6);
+    SET v_ms = CAST(UNIX_TIMESTAMP(NOW(3)) * 1000 AS UNSIGNED);
+
+    WHILE i < p_rows DO
+        START TRANSACTION;
+        -- 1,000건 단위 커밋 (JDBC batch와 비슷한 조건)
+        REPEAT
+            IF p_version = 'v4' THEN
+                -- version 4 / variant 비트는 페이지 위치에 영향이 없으므로 단순 무작위 16byte 사용
+                INSERT INTO bench_uuid_v4 VALUES (RANDOM_BYTES(16), CONCAT('user', i), NOW(6));
+            ELSE
+                -- 48bit ms timestamp + 순번/무작위 (UuidV7Generator와 같은 배치)
+                IF i % 4 = 0 THEN
+                    SET v_ms = v_ms + 1;
+                END IF;
+                INSERT INTO bench_uuid_v7 VALUES (
+                    CONCAT(UNHEX(LPAD(HEX(v_ms), 12, '0')), UNHEX(LPAD(HEX(0x7000 | (i % 4)), 4, '0')), RANDOM_BYTES(8)),
+                    CONCAT('user', i), NOW(6));
+            END IF;
+            SET i = i + 1;
+        UNTIL i % 1000 = 0 OR i >= p_rows END REPEAT;
+        COMMIT;
+    END WHILE;
+
+    INSERT INTO bench_uuid_result
+    SELECT p_version,
+           p_rows,
+           TIMESTAMPDIFF(MICROSECOND, v_started, NOW(6)) / 1000000,
+           COUNT - v_splits_before
+    FROM information_schema.INNODB_METRICS
+    WHERE NAME = 'index_page_splits';
+END //
+DELIMITER ;
+
+CALL bench_uuid_insert('v4', 3000000);
+CALL bench_uuid_insert('v7', 3000000);
+
+ANALYZE TABLE bench_uuid_v4, bench_uuid_v7;
+
+-- 결과: 소요 시간 / page split
+SELECT * FROM bench_uuid_result;
+
+-- 결과: 데이터 크기 (page split이 많을수록 빈 공간이 많아 커짐)
+SELECT TABLE_NAME,
+       TABLE_ROWS,
+       ROUND(DATA_LENGTH / 1024 / 1024, 1) AS data_mb,
+       ROUND(DATA_FREE / 1024 / 1024, 1)   AS free_mb
+FROM information_schema.TABLES
+WHERE TABLE_SCHEMA = DATABASE()
+  AND TABLE_NAME IN ('bench_uuid_v4', 'bench_uuid_v7');
+
+-- 정리
+-- DROP PROCEDURE IF EXISTS bench_uuid_insert;
+-- DROP TABLE IF EXISTS bench_uuid_v4, bench_uuid_v7, bench_uuid_result;
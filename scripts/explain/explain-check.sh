@@ -0,0 +1,113 @@
+#!/bin/bash
+# 주요 쿼리 실행 계획 확인
+#
+# 각 쿼리의 EXPLAIN 결과에 type = ALL(전체 테이블 스캔)인 행이 있으면 실패로 처리합니다.
+# WITH RECURSIVE의 재귀 참조(mc)나 파생 테이블(<derived…>)처럼 원래 전체를 읽는 임시 결과는 제외합니다.
+#
+# 같은 확인이 각 모듈의 *QueryPlanTest(Testcontainers MySQL)로 mvn test / CI에서 실행되며,
+# 이 스크립트는 실제 데이터가 있는 DB에서 직접 확인할 때 사용합니다.
+#
+# 사용법: ./explain-check.sh
+# 환경변수: MYSQL_HOST / MYSQL_PORT / MYSQL_USER / MYSQL_PASSWORD / MYSQL_DB
+#          (기본 localhost / 3306 / root / 1234 / db_demo)
+
+set -u
+
+MYSQL_HOST=${MYSQL_HOST:-localhost}
+MYSQL_PORT=${MYSQL_PORT:-3306}
+MYSQL_USER=${MYSQL_USER:-root}
+MYSQL_PASSWORD=${MYSQL_PASSWORD:-1234}
+MYSQL_DB=${MYSQL_DB:-db_demo}
+
+run_sql() {
+    mysql -h"$MYSQL_HOST" -P"$MYSQL_PORT" -u"$MYSQL_USER" -p"$MYSQL_PASSWORD" -B "$MYSQL_DB" -e "$1" 2>/dev/null
+}
+
+failures=0
+
+# check <이름> <제외할 table 별칭(공백 구분)> <SQL>
+check() {
+    local name=$1 ignored=$2 sql=$3
+    local plan
+    if ! plan=$(run_sql "EXPLAIN $sql"); then
+        echo "[ERROR] $name: EXPLAIN 실패"
+        failures=$((failures + 1))
+        return
+    fi
+
+    # 탭 구분 출력의 헤더에서 table / type / key 컬럼 위치를 찾아 type = ALL 행만 추림
+    local scans
+    scans=$(echo "$plan" | awk -F'\t' -v ignored=" $ignored " '
+        NR == 1 { for (i = 1; i <= NF; i++) col[$i] = i; next }
+        $col["type"] == "ALL" && $col["table"] !~ /^</ && index(ignored, " " $col["table"] " ") == 0 {
+            print $col["table"]
+        }')
+
+    if [ -n "$scans" ]; then
+        echo "[FAIL] $name: full table scan on $(echo $scans)"
+        echo "$plan" | sed 's/^/    /'
+        failures=$((failures + 1))
+    else
+        echo "[OK]   $name"
+    fi
+}
+
+run_sql "ANALYZE TABLE tbl_menu, tbl_login_info, tbl_users, tbl_login_event" > /dev/null
+
+# demo-system: MenuMapper.selectMenuTree
+check "menu-tree" "mc" "
+WITH RECURSIVE menu_cte AS (
+    SELECT menu_id, menu_order, CAST(LPAD(menu_order, 5, '0') AS CHAR(1000)) AS sort_path
+      FROM tbl_menu
+     WHERE parent_id IS NULL AND use_yn = 'Y'
+    UNION ALL
+    SELECT m.menu_id, m.menu_order, CONCAT(mc.sort_path, '-', LPAD(m.menu_order, 5, '0'))
+      FROM tbl_menu m
+     INNER JOIN menu_cte mc ON m.parent_id = mc.menu_id
+     WHERE m.use_yn = 'Y'
+)
+SELECT menu_id FROM menu_cte ORDER BY sort_path"
+
+# demo-system: MenuMapper.selectChildMenus, MenuRepository.findByParentIdAndUseYnOrderByMenuOrderAsc
+check "menu-children" "" "
+SELECT menu_id, menu_name FROM tbl_menu WHERE parent_id = 1 AND use_yn = 'Y' ORDER BY menu_order"
+
+# demo-auth: LoginInfoRepository.findByEmail / existsByEmail
+check "login-info-by-email" "" "
+SELECT login_id, password, user_role FROM tbl_login_info WHERE email = 'explain@example.com'"
+
+# demo-auth: UserInfoRepository.findCredentialByEmail
+check "login-credential" "" "
+SELECT u.user_id, l.email, l.password, l.user_role
+  FROM tbl_users u
+  JOIN tbl_login_info l ON l.login_id = u.login_id
+ WHERE l.email = 'explain@example.com'"
+
+# demo-auth: UserInfoRepository.findDirectoryPage (두 번째 페이지)
+check "user-directory" "" "
+SELECT u.user_id, u.user_name, l.email, l.user_role, u.birth_date, u.created_at
+  FROM tbl_users u
+  JOIN tbl_login_info l ON l.login_id = u.login_id
+ WHERE u.del_yn = 'N'
+   AND (u.created_at < '2030-01-01 00:00:00' OR (u.created_at = '2030-01-01 00:00:00' AND u.user_id < UNHEX(REPEAT('F', 32))))
+ ORDER BY u.created_at DESC, u.user_id DESC LIMIT 21"
+
+# demo-auth: 계정별 로그인 이력
+check "login-event-by-email" "" "
+SELECT event_type, client_ip, occurred_at FROM tbl_login_event
+ WHERE email = 'explain@example.com' ORDER BY occurred_at DESC LIMIT 50"
+
+# demo-db: SoftDeletePurgeJob 첫 batch 조회
+check "purge-menu" "" "
+SELECT menu_id FROM tbl_menu WHERE del_yn = 'Y' AND deleted_at < NOW() - INTERVAL 30 DAY ORDER BY menu_id LIMIT 500"
+check "purge-users" "" "
+SELECT user_id FROM tbl_users WHERE del_yn = 'Y' AND deleted_at < NOW() - INTERVAL 30 DAY ORDER BY user_id LIMIT 500"
+check "purge-login-info" "" "
+SELECT login_id FROM tbl_login_info WHERE del_yn = 'Y' AND deleted_at < NOW() - INTERVAL 30 DAY ORDER BY login_id LIMIT 500"
+
+echo ""
+if [ "$failures" -gt 0 ]; then
+    echo "실행 계획 확인 실패: $failures 건"
+    exit 1
+fi
+echo "실행 계획 확인 완료"
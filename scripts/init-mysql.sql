@@ -15,8 +15,8 @@ USE demo_db;
 -- GRANT ALL PRIVILEGES ON demo_db.* TO 'demo_user'@'localhost';
 -- FLUSH PRIVILEGES;
 
--- 4. 테이블은 JPA가 자동 생성하므로 별도 생성 불필요
--- hibernate.ddl-auto=update 설정으로 자동 생성됨
+-- 4. 테이블은 애플리케이션 기동 시 Flyway 마이그레이션으로 생성되므로 별도 생성 불필요
+-- (demo-auth: db/migration/auth, demo-system: db/migration/system)
 
 -- 5. 데이터베이스 확인
 SELECT 'Database demo_db created successfully!' AS message;